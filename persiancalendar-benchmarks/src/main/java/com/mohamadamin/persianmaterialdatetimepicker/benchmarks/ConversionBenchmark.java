@@ -0,0 +1,115 @@
+package com.mohamadamin.persianmaterialdatetimepicker.benchmarks;
+
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendarUtils;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateConverter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Gregorian to persian conversion paths, from the per-object
+ * {@link PersianCalendar} API down to the bulk array API.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ConversionBenchmark {
+
+    static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+
+    private final TimeZone zone = TimeZone.getTimeZone("Asia/Tehran");
+
+    private long[] millis;
+    private long[] julianDays;
+    private int[] persianYears;
+    private int[] persianMonths;
+    private int[] persianDays;
+    private int[] packedOut;
+
+    private PersianCalendar calendar;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1361);
+        millis = new long[SIZE];
+        julianDays = new long[SIZE];
+        persianYears = new int[SIZE];
+        persianMonths = new int[SIZE];
+        persianDays = new int[SIZE];
+        packedOut = new int[SIZE];
+        // 1990 to 2030
+        long from = 631152000000L;
+        long span = 1262304000000L;
+        for (int i = 0; i < SIZE; i++) {
+            millis[i] = from + (long) (random.nextDouble() * span);
+            long epochDay = millis[i] / 86400000L;
+            julianDays[i] = epochDay + PersianDateConverter.JULIAN_DAY_OF_EPOCH;
+            int packed = PersianDateConverter.toPacked(epochDay);
+            persianYears[i] = PersianDateConverter.year(packed);
+            persianMonths[i] = PersianDateConverter.month(packed);
+            persianDays[i] = PersianDateConverter.day(packed);
+        }
+        calendar = new PersianCalendar();
+        calendar.setTimeZone(zone);
+    }
+
+    private int next() {
+        return index++ & MASK;
+    }
+
+    @Benchmark
+    public int setTimeInMillis() {
+        calendar.setTimeInMillis(millis[next()]);
+        return calendar.getPersianDay();
+    }
+
+    @Benchmark
+    public long setPersianDate() {
+        int i = next();
+        calendar.setPersianDate(persianYears[i], persianMonths[i], persianDays[i]);
+        return calendar.getTimeInMillis();
+    }
+
+    @Benchmark
+    public long julianToPersian() {
+        return PersianCalendarUtils.julianToPersian(julianDays[next()]);
+    }
+
+    @Benchmark
+    public long persianToJulian() {
+        int i = next();
+        return PersianCalendarUtils.persianToJulian(persianYears[i], persianMonths[i], persianDays[i]);
+    }
+
+    @Benchmark
+    public int epochDayToPacked() {
+        return PersianDateConverter.toPacked(julianDays[next()] - PersianDateConverter.JULIAN_DAY_OF_EPOCH);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(SIZE)
+    public int[] bulkToPersian() {
+        PersianCalendarUtils.toPersian(millis, 0, SIZE, packedOut, 0, zone);
+        return packedOut;
+    }
+
+}
@@ -0,0 +1,92 @@
+package com.mohamadamin.persianmaterialdatetimepicker.benchmarks;
+
+import com.mohamadamin.persianmaterialdatetimepicker.utils.DigitTranscoder;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.LanguageUtils;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateFormatter;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Formatting of persian dates and transliteration of digits.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class FormattingBenchmark {
+
+    private PersianCalendar calendar;
+    private String latinDigits;
+    private String persianDigits;
+    private PersianDateFormatter formatter;
+    private StringBuilder builder;
+    private char[] digitBuffer;
+
+    @Setup
+    public void setUp() {
+        calendar = new PersianCalendar();
+        calendar.setTimeZone(TimeZone.getTimeZone("Asia/Tehran"));
+        // 1397/04/01 12:30 Tehran
+        calendar.setTimeInMillis(1529655600000L);
+        latinDigits = "1397/04/01 12:30:45";
+        persianDigits = LanguageUtils.getPersianNumbers(latinDigits);
+        formatter = PersianDateFormatter.ofPattern("yyyy/MM/dd EEEE HH:mm").withPersianDigits(true);
+        builder = new StringBuilder(64);
+        digitBuffer = new char[16];
+    }
+
+    @Benchmark
+    public String getPersianLongDate() {
+        return calendar.getPersianLongDate();
+    }
+
+    @Benchmark
+    public String getPersianShortDate() {
+        return calendar.getPersianShortDate();
+    }
+
+    @Benchmark
+    public String getPersianNumbers() {
+        return LanguageUtils.getPersianNumbers(latinDigits);
+    }
+
+    @Benchmark
+    public String getLatinNumbers() {
+        return LanguageUtils.getLatinNumbers(persianDigits);
+    }
+
+    @Benchmark
+    public StringBuilder transcodeToBuilder() {
+        builder.setLength(0);
+        return DigitTranscoder.transcode(latinDigits, DigitTranscoder.PERSIAN_ZERO, builder);
+    }
+
+    @Benchmark
+    public char[] writeNumber() {
+        DigitTranscoder.writeNumber(digitBuffer, 0, 1397, 4, DigitTranscoder.PERSIAN_ZERO);
+        return digitBuffer;
+    }
+
+    @Benchmark
+    public StringBuilder formatterFormatTo() {
+        builder.setLength(0);
+        formatter.formatTo(calendar, builder);
+        return builder;
+    }
+
+}
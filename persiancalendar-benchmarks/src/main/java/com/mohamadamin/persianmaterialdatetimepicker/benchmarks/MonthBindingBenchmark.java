@@ -0,0 +1,95 @@
+package com.mohamadamin.persianmaterialdatetimepicker.benchmarks;
+
+import com.mohamadamin.persianmaterialdatetimepicker.utils.MonthGridTable;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The {@link PersianCalendar} calls a month view makes while it is bound and
+ * drawn: moving to the first of the month, reading the first week day and
+ * the seven week day labels.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MonthBindingBenchmark {
+
+    private PersianCalendar calendar;
+    private PersianCalendar dayLabelCalendar;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        calendar = new PersianCalendar();
+        calendar.setTimeZone(TimeZone.getTimeZone("Asia/Tehran"));
+        dayLabelCalendar = new PersianCalendar();
+    }
+
+    // 1390 to 1410
+    private int nextMonthOrdinal() {
+        return 1390 * 12 + (index++ & 0xff);
+    }
+
+    /**
+     * setPersianDate followed by a read of the persian fields.
+     */
+    @Benchmark
+    public int setPersianDateAndRead() {
+        int ordinal = nextMonthOrdinal();
+        calendar.setPersianDate(ordinal / 12, ordinal % 12, 1);
+        return calendar.getPersianDay();
+    }
+
+    /**
+     * MonthView.setMonthParams before MonthGridTable: first of the month and
+     * its week day.
+     */
+    @Benchmark
+    public int setMonthParams() {
+        int ordinal = nextMonthOrdinal();
+        calendar.setPersianDate(ordinal / 12, ordinal % 12, 1);
+        return calendar.get(Calendar.DAY_OF_WEEK);
+    }
+
+    /**
+     * MonthView.setMonthParams: first week day, day count and rows.
+     */
+    @Benchmark
+    public int monthGridTable() {
+        int ordinal = nextMonthOrdinal();
+        int layout = MonthGridTable.get(ordinal / 12, ordinal % 12);
+        return MonthGridTable.firstDayOfWeek(layout) + MonthGridTable.daysInMonth(layout)
+                + MonthGridTable.numRows(layout, Calendar.SATURDAY);
+    }
+
+    /**
+     * MonthView.drawMonthDayLabels: seven week day names.
+     */
+    @Benchmark
+    public int drawMonthDayLabels() {
+        int length = 0;
+        for (int i = 0; i < 7; i++) {
+            dayLabelCalendar.set(Calendar.DAY_OF_WEEK, i + 1);
+            length += dayLabelCalendar.getPersianWeekDayName().length();
+        }
+        return length;
+    }
+
+}
@@ -0,0 +1,84 @@
+package com.mohamadamin.persianmaterialdatetimepicker.benchmarks;
+
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateParser;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Parsing of persian date strings of all twelve months, every eighth of them
+ * malformed.
+ * <p>
+ * The ParsingBenchmark entries of baseline/jmh-result.json are stale: they
+ * were recorded against the original parser, which rejected month 12, so
+ * their inputs only covered months 1 to 11 and none were malformed. Compare
+ * fresh runs of this class with each other, not with the baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class ParsingBenchmark {
+
+    private static final int SIZE = 1024;
+    private static final int MASK = SIZE - 1;
+
+    private String[] dates;
+    private String[] mixedDates;
+    private int index;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(1361);
+        dates = new String[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            int year = 1300 + random.nextInt(150);
+            int month = 1 + random.nextInt(12);
+            int day = 1 + random.nextInt(29);
+            dates[i] = year + "/" + month + "/" + day;
+        }
+        mixedDates = dates.clone();
+        for (int i = 0; i < SIZE; i += 8) {
+            mixedDates[i] = mixedDates[i].replace('/', '-');
+        }
+    }
+
+    @Benchmark
+    public PersianCalendar getPersianDate() {
+        return new PersianDateParser(dates[index++ & MASK]).getPersianDate();
+    }
+
+    @Benchmark
+    public PersianCalendar getPersianDateMalformed() {
+        try {
+            return new PersianDateParser(mixedDates[index++ & MASK]).getPersianDate();
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+
+    @Benchmark
+    public int parsePacked() {
+        return PersianDateParser.parsePacked(dates[index++ & MASK]);
+    }
+
+    @Benchmark
+    public int parsePackedMalformed() {
+        return PersianDateParser.parsePacked(mixedDates[index++ & MASK]);
+    }
+
+}
@@ -0,0 +1,165 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.io.IOException;
+
+/**
+ * Table driven conversion between Latin, Persian and Arabic-Indic digits.
+ * <p>
+ * Every method converts in a single pass and recognises all three digit
+ * systems at once, so mixed input is normalised to the requested one. Target
+ * systems are given by their zero digit, see {@link #LATIN_ZERO},
+ * {@link #PERSIAN_ZERO} and {@link #ARABIC_INDIC_ZERO}.
+ */
+public final class DigitTranscoder {
+
+	public static final char LATIN_ZERO = '0';
+	public static final char PERSIAN_ZERO = '۰';
+	public static final char ARABIC_INDIC_ZERO = '٠';
+
+	// digit value of every char up to the last persian digit, -1 for non digits
+	private static final byte[] DIGIT_VALUES = new byte[PERSIAN_ZERO + 10];
+
+	static {
+		for (int i = 0; i < DIGIT_VALUES.length; i++) {
+			DIGIT_VALUES[i] = -1;
+		}
+		for (int i = 0; i < 10; i++) {
+			DIGIT_VALUES[LATIN_ZERO + i] = (byte) i;
+			DIGIT_VALUES[PERSIAN_ZERO + i] = (byte) i;
+			DIGIT_VALUES[ARABIC_INDIC_ZERO + i] = (byte) i;
+		}
+	}
+
+	private DigitTranscoder() {
+	}
+
+	/**
+	 * @return value of a Latin, Persian or Arabic-Indic digit, -1 for any
+	 * other char
+	 */
+	public static int digitValue(char c) {
+		return c < DIGIT_VALUES.length ? DIGIT_VALUES[c] : -1;
+	}
+
+	/**
+	 * Converts the digits of a char array in place.
+	 */
+	public static void transcode(char[] chars, int offset, int length, char zeroDigit) {
+		for (int i = offset, end = offset + length; i < end; i++) {
+			int value = digitValue(chars[i]);
+			if (value >= 0) {
+				chars[i] = (char) (zeroDigit + value);
+			}
+		}
+	}
+
+	/**
+	 * Appends the given text to out with its digits converted.
+	 *
+	 * @return out
+	 */
+	public static StringBuilder transcode(CharSequence text, char zeroDigit, StringBuilder out) {
+		for (int i = 0, length = text.length(); i < length; i++) {
+			char c = text.charAt(i);
+			int value = digitValue(c);
+			out.append(value >= 0 ? (char) (zeroDigit + value) : c);
+		}
+		return out;
+	}
+
+	/**
+	 * @return the given string with its digits converted, the same instance if
+	 * no char had to change
+	 */
+	public static String transcode(String text, char zeroDigit) {
+		int length = text.length();
+		int i = 0;
+		while (i < length) {
+			char c = text.charAt(i);
+			int value = digitValue(c);
+			if (value >= 0 && c != zeroDigit + value) {
+				break;
+			}
+			i++;
+		}
+		if (i == length) {
+			return text;
+		}
+		char[] chars = text.toCharArray();
+		transcode(chars, i, length - i, zeroDigit);
+		return new String(chars);
+	}
+
+	/**
+	 * Writes the decimal digits of value into buffer starting at offset,
+	 * zero padded to minWidth.
+	 *
+	 * @return index after the last written char
+	 */
+	public static int writeNumber(char[] buffer, int offset, int value, int minWidth, char zeroDigit) {
+		// long, as the magnitude of Integer.MIN_VALUE does not fit an int
+		long magnitude = value;
+		if (magnitude < 0) {
+			buffer[offset++] = '-';
+			magnitude = -magnitude;
+		}
+		int digits = countDigits(magnitude);
+		for (int i = digits; i < minWidth; i++) {
+			buffer[offset++] = zeroDigit;
+		}
+		int end = offset + digits;
+		for (int i = end - 1; i >= offset; i--) {
+			buffer[i] = (char) (zeroDigit + magnitude % 10);
+			magnitude /= 10;
+		}
+		return end;
+	}
+
+	/**
+	 * Appends the decimal digits of value to out, zero padded to minWidth.
+	 *
+	 * @return out
+	 */
+	public static StringBuilder appendNumber(StringBuilder out, int value, int minWidth, char zeroDigit) {
+		try {
+			appendNumber((Appendable) out, value, minWidth, zeroDigit);
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+		return out;
+	}
+
+	/**
+	 * Appends the decimal digits of value to out, zero padded to minWidth.
+	 *
+	 * @throws IOException
+	 *             if out fails
+	 */
+	public static void appendNumber(Appendable out, int value, int minWidth, char zeroDigit) throws IOException {
+		long magnitude = value;
+		if (magnitude < 0) {
+			out.append('-');
+			magnitude = -magnitude;
+		}
+		int digits = countDigits(magnitude);
+		for (int i = digits; i < minWidth; i++) {
+			out.append(zeroDigit);
+		}
+		long divisor = 1;
+		for (int i = 1; i < digits; i++) {
+			divisor *= 10;
+		}
+		for (; divisor > 0; divisor /= 10) {
+			out.append((char) (zeroDigit + magnitude / divisor % 10));
+		}
+	}
+
+	private static int countDigits(long value) {
+		int digits = 1;
+		for (long rest = value / 10; rest > 0; rest /= 10) {
+			digits++;
+		}
+		return digits;
+	}
+
+}
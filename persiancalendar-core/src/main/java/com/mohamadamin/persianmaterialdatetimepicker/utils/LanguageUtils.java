@@ -0,0 +1,29 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.util.ArrayList;
+
+public class LanguageUtils {
+
+    public static String getPersianNumbers(String string) {
+        return DigitTranscoder.transcode(string, DigitTranscoder.PERSIAN_ZERO);
+    }
+
+    public static String[] getPersianNumbers(String[] strings) {
+        for (int i=0; i<strings.length; i++) {
+            strings[i] = getPersianNumbers(strings[i]);
+        }
+        return strings;
+    }
+
+    public static ArrayList<String> getPersianNumbers(ArrayList<String> strings) {
+        for (int i=0; i<strings.size(); i++) {
+            strings.set(i, getPersianNumbers(strings.get(i)));
+        }
+        return strings;
+    }
+
+    public static String getLatinNumbers(String string) {
+        return DigitTranscoder.transcode(string, DigitTranscoder.LATIN_ZERO);
+    }
+
+}
@@ -0,0 +1,100 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+/**
+ * Immutable set of persian days indexed by month: one 32 bit mask per month
+ * ordinal, bit {@code d} being set when day {@code d} of that month is in the
+ * set.
+ * <p>
+ * Masks are stored densely from the first to the last month holding a day,
+ * so a membership test is an array read and a bit test whatever the number of
+ * days. Built once from the days of a date picker, e.g. its highlighted or
+ * selectable days.
+ */
+public final class MonthDayIndex {
+
+	private final int firstOrdinal;
+	private final int[] masks;
+	private final int size;
+
+	private MonthDayIndex(int firstOrdinal, int[] masks, int size) {
+		this.firstOrdinal = firstOrdinal;
+		this.masks = masks;
+		this.size = size;
+	}
+
+	/**
+	 * @param days
+	 *            days in any order, duplicates and time of day are ignored
+	 */
+	public static MonthDayIndex of(PersianCalendar[] days) {
+		int[] packed = new int[days.length];
+		for (int i = 0; i < days.length; i++) {
+			PersianCalendar day = days[i];
+			packed[i] = PersianDateConverter.pack(day.getPersianYear(), day.getPersianMonth(), day.getPersianDay());
+		}
+		return ofPacked(packed, 0, packed.length);
+	}
+
+	/**
+	 * @param packedDates
+	 *            dates packed by {@link PersianDateConverter#pack(int, int, int)}
+	 *            in any order, duplicates are ignored
+	 */
+	public static MonthDayIndex ofPacked(int[] packedDates, int offset, int length) {
+		if (length == 0) {
+			return new MonthDayIndex(0, new int[0], 0);
+		}
+		int minOrdinal = Integer.MAX_VALUE;
+		int maxOrdinal = Integer.MIN_VALUE;
+		for (int i = offset; i < offset + length; i++) {
+			int ordinal = PersianDateConverter.monthOrdinal(packedDates[i]);
+			minOrdinal = Math.min(minOrdinal, ordinal);
+			maxOrdinal = Math.max(maxOrdinal, ordinal);
+		}
+		int[] masks = new int[maxOrdinal - minOrdinal + 1];
+		int size = 0;
+		for (int i = offset; i < offset + length; i++) {
+			int index = PersianDateConverter.monthOrdinal(packedDates[i]) - minOrdinal;
+			int bit = 1 << PersianDateConverter.day(packedDates[i]);
+			if ((masks[index] & bit) == 0) {
+				masks[index] |= bit;
+				size++;
+			}
+		}
+		return new MonthDayIndex(minOrdinal, masks, size);
+	}
+
+	/**
+	 * @param month
+	 *            zero based persian month
+	 * @return mask of the days of the given month in the set, bit {@code d}
+	 *         standing for day {@code d}
+	 */
+	public int getMonthMask(int year, int month) {
+		int index = year * 12 + month - firstOrdinal;
+		if (index < 0 || index >= masks.length) {
+			return 0;
+		}
+		return masks[index];
+	}
+
+	/**
+	 * @param month
+	 *            zero based persian month
+	 */
+	public boolean contains(int year, int month, int day) {
+		return (getMonthMask(year, month) & (1 << day)) != 0;
+	}
+
+	/**
+	 * @return number of distinct days in the set
+	 */
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+}
@@ -0,0 +1,112 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.util.Calendar;
+
+/**
+ * Process wide cache of the grid layout of persian months: week day of the
+ * first day, number of days and number of week rows for every week start.
+ * <p>
+ * Layouts are packed into one int each and stored in a flat array indexed by
+ * month ordinal, filled in lazily the first time a month is asked for, so
+ * binding a month view is a single array read. Months of years outside
+ * {@link #FIRST_YEAR} to {@link #LAST_YEAR} are computed on every call.
+ * <p>
+ * The table needs no locking: int array stores are atomic, a layout only
+ * depends on its month and is never zero, so a reader sees either zero and
+ * computes the layout itself, or a complete layout. A thread that misses
+ * another's store only repeats the computation.
+ *
+ * <pre>
+ *  {@code
+ *    int layout = MonthGridTable.get(1397, 3);
+ *    int firstDayOfWeek = MonthGridTable.firstDayOfWeek(layout);
+ *    int rows = MonthGridTable.numRows(layout, Calendar.SATURDAY);
+ *  }
+ * </pre>
+ */
+public final class MonthGridTable {
+
+	public static final int FIRST_YEAR = 1200;
+	public static final int LAST_YEAR = 1599;
+
+	private static final int DAYS_MASK = 0x1f;
+	private static final int FIRST_DAY_SHIFT = 5;
+	private static final int ROWS_SHIFT = 8;
+	private static final int ROWS_BITS = 3;
+	private static final int ROWS_MASK = (1 << ROWS_BITS) - 1;
+
+	// zero until the month is first used, a layout is never zero
+	private static final int[] layouts = new int[(LAST_YEAR - FIRST_YEAR + 1) * 12];
+
+	private MonthGridTable() {
+	}
+
+	/**
+	 * @param month
+	 *            zero based persian month
+	 * @return packed layout of the month, read it with
+	 *         {@link #firstDayOfWeek(int)}, {@link #daysInMonth(int)} and
+	 *         {@link #numRows(int, int)}
+	 * @exception IllegalArgumentException
+	 *                if month is out of range
+	 */
+	public static int get(int year, int month) {
+		if (month < 0 || month > 11) {
+			throw new IllegalArgumentException("month is not valid: " + month);
+		}
+		if (year < FIRST_YEAR || year > LAST_YEAR) {
+			return compute(year, month);
+		}
+		int index = (year - FIRST_YEAR) * 12 + month;
+		int layout = layouts[index];
+		if (layout == 0) {
+			layout = compute(year, month);
+			layouts[index] = layout;
+		}
+		return layout;
+	}
+
+	/**
+	 * @return week day of the first day of the month, as in
+	 *         {@link Calendar#DAY_OF_WEEK}
+	 */
+	public static int firstDayOfWeek(int layout) {
+		return (layout >> FIRST_DAY_SHIFT) & 7;
+	}
+
+	public static int daysInMonth(int layout) {
+		return layout & DAYS_MASK;
+	}
+
+	/**
+	 * @param weekStart
+	 *            first day of the week, {@link Calendar#SUNDAY} to
+	 *            {@link Calendar#SATURDAY}
+	 * @return number of week rows the month spans
+	 */
+	public static int numRows(int layout, int weekStart) {
+		return (layout >> (ROWS_SHIFT + ROWS_BITS * (weekStart - 1))) & ROWS_MASK;
+	}
+
+	/**
+	 * @return number of empty cells before the first day in the first row
+	 */
+	public static int dayOffset(int layout, int weekStart) {
+		return (firstDayOfWeek(layout) - weekStart + 7) % 7;
+	}
+
+	private static int compute(int year, int month) {
+		int days = PersianDateConverter.daysInMonth(year, month);
+		int persianDayOfWeek = PersianDateConverter.persianDayOfWeek(PersianDateConverter.toEpochDay(year, month, 1));
+		// persian day of week 0 is Saturday
+		int firstDayOfWeek = persianDayOfWeek == 0 ? Calendar.SATURDAY : persianDayOfWeek;
+		int layout = firstDayOfWeek << FIRST_DAY_SHIFT | days;
+		for (int weekStart = Calendar.SUNDAY; weekStart <= Calendar.SATURDAY; weekStart++) {
+			int offset = (firstDayOfWeek - weekStart + 7) % 7;
+			int rows = (offset + days + 6) / 7;
+			layout |= rows << (ROWS_SHIFT + ROWS_BITS * (weekStart - 1));
+		}
+		return layout;
+	}
+
+}
@@ -0,0 +1,132 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.util.Arrays;
+
+/**
+ * Precomputed epoch days of Nowruz (1 Farvardin) for a span of persian years.
+ * <p>
+ * Year boundaries, leap years and month lengths inside the span are answered
+ * with plain array reads and reverse conversion is a binary search over the
+ * table. Years outside the span fall back to {@link PersianDateConverter}, so
+ * results never depend on the configured span. The default table covers
+ * years 1 to 3000 and is built lazily once per process.
+ */
+public final class NowruzTable {
+
+	public static final int DEFAULT_FIRST_YEAR = 1;
+	public static final int DEFAULT_LAST_YEAR = 3000;
+
+	private final int firstYear;
+	private final int lastYear;
+	// nowruz[i] is the epoch day of 1 Farvardin (firstYear + i), the extra
+	// trailing entry closes the last year
+	private final int[] nowruz;
+
+	/**
+	 * @param firstYear first persian year in the table
+	 * @param lastYear  last persian year in the table, inclusive
+	 */
+	public NowruzTable(int firstYear, int lastYear) {
+		if (lastYear < firstYear) {
+			throw new IllegalArgumentException("lastYear must not be before firstYear");
+		}
+		this.firstYear = firstYear;
+		this.lastYear = lastYear;
+		this.nowruz = new int[lastYear - firstYear + 2];
+		for (int i = 0; i < nowruz.length; i++) {
+			nowruz[i] = (int) PersianDateConverter.yearStart(firstYear + i);
+		}
+	}
+
+	/**
+	 * @return the shared table covering {@link #DEFAULT_FIRST_YEAR} to
+	 * {@link #DEFAULT_LAST_YEAR}
+	 */
+	public static NowruzTable getDefault() {
+		return DefaultHolder.INSTANCE;
+	}
+
+	public int getFirstYear() {
+		return firstYear;
+	}
+
+	public int getLastYear() {
+		return lastYear;
+	}
+
+	public boolean contains(int year) {
+		return year >= firstYear && year <= lastYear;
+	}
+
+	/**
+	 * @return epoch day of 1 Farvardin of the given year
+	 */
+	public long yearStart(int year) {
+		if (!contains(year)) {
+			return PersianDateConverter.yearStart(year);
+		}
+		return nowruz[year - firstYear];
+	}
+
+	public int daysInYear(int year) {
+		if (!contains(year)) {
+			return PersianDateConverter.daysInYear(year);
+		}
+		int index = year - firstYear;
+		return nowruz[index + 1] - nowruz[index];
+	}
+
+	public boolean isLeapYear(int year) {
+		return daysInYear(year) == 366;
+	}
+
+	/**
+	 * @param month zero based persian month
+	 */
+	public int daysInMonth(int year, int month) {
+		if (month < 6) {
+			return 31;
+		} else if (month < 11) {
+			return 30;
+		}
+		return isLeapYear(year) ? 30 : 29;
+	}
+
+	/**
+	 * @param month zero based persian month
+	 */
+	public long toEpochDay(int year, int month, int day) {
+		if (month < 0 || month > 11) {
+			return PersianDateConverter.toEpochDay(year, month, day);
+		}
+		return yearStart(year) + PersianDateConverter.daysBeforeMonth(month) + day - 1;
+	}
+
+	/**
+	 * @return persian year containing the given epoch day
+	 */
+	public int yearOf(long epochDay) {
+		if (epochDay < nowruz[0] || epochDay >= nowruz[nowruz.length - 1]) {
+			return PersianDateConverter.yearOf(epochDay);
+		}
+		int index = Arrays.binarySearch(nowruz, (int) epochDay);
+		if (index < 0) {
+			index = -index - 2;
+		}
+		return firstYear + index;
+	}
+
+	/**
+	 * @return packed persian date of the given epoch day, see
+	 * {@link PersianDateConverter#pack(int, int, int)}
+	 */
+	public int toPacked(long epochDay) {
+		int year = yearOf(epochDay);
+		return PersianDateConverter.packDayOfYear(year, (int) (epochDay - yearStart(year)));
+	}
+
+	private static final class DefaultHolder {
+		static final NowruzTable INSTANCE = new NowruzTable(DEFAULT_FIRST_YEAR, DEFAULT_LAST_YEAR);
+	}
+
+}
@@ -0,0 +1,229 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.util.Spliterator;
+import java.util.TimeZone;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.IntConsumer;
+import java.util.stream.IntStream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Parallel variants of the bulk conversions in {@link PersianCalendarUtils}.
+ * <p>
+ * Input windows are split in halves on a {@link ForkJoinPool} until they are
+ * no longer than a threshold, then each piece runs the sequential conversion.
+ * Every element is converted independently, so the output is identical to the
+ * sequential path regardless of how the work was split.
+ * <p>
+ * Needs API 24 on Android (ForkJoinPool.commonPool and java.util.stream); the
+ * rest of the library does not load this class.
+ */
+public final class ParallelPersianConverter {
+
+	/**
+	 * Windows at most this long are converted sequentially.
+	 */
+	public static final int DEFAULT_THRESHOLD = 1 << 14;
+
+	private ParallelPersianConverter() {
+	}
+
+	/**
+	 * Parallel {@link PersianCalendarUtils#toPersian(long[], int, int, int[], int, TimeZone)}
+	 * on the common pool.
+	 */
+	public static void toPersian(long[] millis, int offset, int length, int[] out, int outOffset, TimeZone zone) {
+		toPersian(millis, offset, length, out, outOffset, zone, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Parallel {@link PersianCalendarUtils#toPersian(long[], int, int, int[], int, TimeZone)}.
+	 *
+	 * @param pool      pool running the conversion
+	 * @param threshold windows at most this long are not split any further
+	 */
+	public static void toPersian(long[] millis, int offset, int length, int[] out, int outOffset, TimeZone zone,
+			ForkJoinPool pool, int threshold) {
+		PersianCalendarUtils.checkWindow(millis.length, offset, length);
+		PersianCalendarUtils.checkWindow(out.length, outOffset, length);
+		pool.invoke(new MillisToPersianTask(millis, offset, length, out, outOffset, zone, Math.max(1, threshold)));
+	}
+
+	/**
+	 * Parallel {@link PersianCalendarUtils#toEpochDays(int[], int, int, long[], int)}
+	 * on the common pool.
+	 */
+	public static void toEpochDays(int[] packed, int offset, int length, long[] out, int outOffset) {
+		toEpochDays(packed, offset, length, out, outOffset, ForkJoinPool.commonPool(), DEFAULT_THRESHOLD);
+	}
+
+	/**
+	 * Parallel {@link PersianCalendarUtils#toEpochDays(int[], int, int, long[], int)}.
+	 *
+	 * @param pool      pool running the conversion
+	 * @param threshold windows at most this long are not split any further
+	 */
+	public static void toEpochDays(int[] packed, int offset, int length, long[] out, int outOffset,
+			ForkJoinPool pool, int threshold) {
+		PersianCalendarUtils.checkWindow(packed.length, offset, length);
+		PersianCalendarUtils.checkWindow(out.length, outOffset, length);
+		pool.invoke(new PersianToEpochDayTask(packed, offset, length, out, outOffset, Math.max(1, threshold)));
+	}
+
+	/**
+	 * @return a stream of packed persian dates for a window of epoch
+	 * milliseconds, in the order of the input. Call {@link IntStream#parallel()}
+	 * to split it across the common pool.
+	 */
+	public static IntStream persianStream(long[] millis, int offset, int length, TimeZone zone) {
+		PersianCalendarUtils.checkWindow(millis.length, offset, length);
+		return StreamSupport.intStream(new PersianSpliterator(millis, offset, offset + length, zone), false);
+	}
+
+	private static final class MillisToPersianTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final long[] millis;
+		private final int offset;
+		private final int length;
+		private final int[] out;
+		private final int outOffset;
+		private final TimeZone zone;
+		private final int threshold;
+
+		MillisToPersianTask(long[] millis, int offset, int length, int[] out, int outOffset, TimeZone zone, int threshold) {
+			this.millis = millis;
+			this.offset = offset;
+			this.length = length;
+			this.out = out;
+			this.outOffset = outOffset;
+			this.zone = zone;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected void compute() {
+			if (length <= threshold) {
+				// TimeZone implementations may cache lookups internally, give
+				// every leaf its own copy
+				PersianCalendarUtils.toPersian(millis, offset, length, out, outOffset, (TimeZone) zone.clone());
+				return;
+			}
+			int half = length >>> 1;
+			invokeAll(new MillisToPersianTask(millis, offset, half, out, outOffset, zone, threshold),
+					new MillisToPersianTask(millis, offset + half, length - half, out, outOffset + half, zone, threshold));
+		}
+	}
+
+	private static final class PersianToEpochDayTask extends RecursiveAction {
+
+		private static final long serialVersionUID = 1L;
+
+		private final int[] packed;
+		private final int offset;
+		private final int length;
+		private final long[] out;
+		private final int outOffset;
+		private final int threshold;
+
+		PersianToEpochDayTask(int[] packed, int offset, int length, long[] out, int outOffset, int threshold) {
+			this.packed = packed;
+			this.offset = offset;
+			this.length = length;
+			this.out = out;
+			this.outOffset = outOffset;
+			this.threshold = threshold;
+		}
+
+		@Override
+		protected void compute() {
+			if (length <= threshold) {
+				PersianCalendarUtils.toEpochDays(packed, offset, length, out, outOffset);
+				return;
+			}
+			int half = length >>> 1;
+			invokeAll(new PersianToEpochDayTask(packed, offset, half, out, outOffset, threshold),
+					new PersianToEpochDayTask(packed, offset + half, length - half, out, outOffset + half, threshold));
+		}
+	}
+
+	private static final class PersianSpliterator implements Spliterator.OfInt {
+
+		// Elements converted at a time by the sequential conversion
+		private static final int BLOCK_LENGTH = 1024;
+
+		private final long[] millis;
+		private final TimeZone zone;
+		private int index;
+		private final int end;
+		// Dates of millis[blockStart, blockStart + blockLength)
+		private int[] block;
+		private int blockStart;
+		private int blockLength;
+
+		PersianSpliterator(long[] millis, int index, int end, TimeZone zone) {
+			this.millis = millis;
+			this.index = index;
+			this.end = end;
+			this.zone = (TimeZone) zone.clone();
+		}
+
+		@Override
+		public boolean tryAdvance(IntConsumer action) {
+			if (index >= end) {
+				return false;
+			}
+			if (index >= blockStart + blockLength) {
+				fillBlock();
+			}
+			action.accept(block[index++ - blockStart]);
+			return true;
+		}
+
+		@Override
+		public void forEachRemaining(IntConsumer action) {
+			while (index < end) {
+				if (index >= blockStart + blockLength) {
+					fillBlock();
+				}
+				int blockEnd = blockStart + blockLength;
+				for (; index < blockEnd; index++) {
+					action.accept(block[index - blockStart]);
+				}
+			}
+		}
+
+		private void fillBlock() {
+			if (block == null) {
+				block = new int[BLOCK_LENGTH];
+			}
+			blockStart = index;
+			blockLength = Math.min(BLOCK_LENGTH, end - index);
+			PersianCalendarUtils.toPersian(millis, blockStart, blockLength, block, 0, zone);
+		}
+
+		@Override
+		public Spliterator.OfInt trySplit() {
+			int mid = (index + end) >>> 1;
+			if (mid - index < DEFAULT_THRESHOLD) {
+				return null;
+			}
+			PersianSpliterator prefix = new PersianSpliterator(millis, index, mid, zone);
+			index = mid;
+			return prefix;
+		}
+
+		@Override
+		public long estimateSize() {
+			return end - index;
+		}
+
+		@Override
+		public int characteristics() {
+			return ORDERED | SIZED | SUBSIZED | NONNULL | IMMUTABLE;
+		}
+	}
+
+}
@@ -25,6 +25,9 @@ public class PersianCalendar extends GregorianCalendar {
   private int persianYear;
   private int persianMonth;
   private int persianDay;
+  // the persian fields are computed from the gregorian ones on first read,
+  // every mutation of the calendar clears this flag
+  private transient boolean persianFieldsValid;
   // use to separate PersianDate's field and also Parse the DateString based
   // on this delimiter
   private String delimiter = "/";
@@ -56,10 +59,21 @@ public class PersianCalendar extends GregorianCalendar {
    * fields(persianYear, persianMonth, persianDay)
    */
   protected void calculatePersianDate() {
-    YearMonthDay persianYearMonthDay = PersianCalendar.gregorianToJalali(new YearMonthDay(this.get(PersianCalendar.YEAR), this.get(PersianCalendar.MONTH), this.get(PersianCalendar.DAY_OF_MONTH)));
-    this.persianYear = persianYearMonthDay.year;
-    this.persianMonth = persianYearMonthDay.month;
-    this.persianDay = persianYearMonthDay.day;
+    int packed = PersianDateConverter.gregorianToPersian(this.get(PersianCalendar.YEAR), this.get(PersianCalendar.MONTH), this.get(PersianCalendar.DAY_OF_MONTH));
+    this.persianYear = PersianDateConverter.year(packed);
+    this.persianMonth = PersianDateConverter.month(packed);
+    this.persianDay = PersianDateConverter.day(packed);
+    this.persianFieldsValid = true;
+  }
+
+  /**
+   * Calculates the persian fields if the calendar changed since they were
+   * last read.
+   */
+  private void ensurePersianDate() {
+    if (!persianFieldsValid) {
+      calculatePersianDate();
+    }
   }
 
   /**
@@ -69,7 +83,7 @@ public class PersianCalendar extends GregorianCalendar {
    * @return boolean
    */
   public boolean isPersianLeapYear() {
-    return PersianCalendarUtils.isPersianLeapYear(this.persianYear);
+    return PersianCalendarUtils.isPersianLeapYear(getPersianYear());
   }
 
   /**
@@ -81,16 +95,15 @@ public class PersianCalendar extends GregorianCalendar {
    * @param persianDay
    */
   public void setPersianDate(int persianYear, int persianMonth, int persianDay) {
-    persianMonth += 1; // TODO
-    this.persianYear = persianYear;
-    this.persianMonth = persianMonth;
-    this.persianDay = persianDay;
-    YearMonthDay gregorianYearMonthDay = persianToGregorian(new YearMonthDay(persianYear, this.persianMonth - 1, persianDay));
-    this.set(gregorianYearMonthDay.year, gregorianYearMonthDay.month, gregorianYearMonthDay.day);
+    if (persianMonth > 11 || persianMonth < -11) {
+      throw new IllegalArgumentException();
+    }
+    int gregorian = PersianDateConverter.persianToGregorian(persianYear, persianMonth, persianDay);
+    this.set(PersianDateConverter.year(gregorian), PersianDateConverter.month(gregorian), PersianDateConverter.day(gregorian));
   }
 
   public int getPersianYear() {
-    // calculatePersianDate();
+    ensurePersianDate();
     return this.persianYear;
   }
 
@@ -98,6 +111,7 @@ public class PersianCalendar extends GregorianCalendar {
    * @return int persian month number
    */
   public int getPersianMonth() {
+    ensurePersianDate();
     return this.persianMonth;
   }
 
@@ -105,13 +119,14 @@ public class PersianCalendar extends GregorianCalendar {
    * @return String persian month name
    */
   public String getPersianMonthName() {
-    return PersianCalendarConstants.persianMonthNames[this.persianMonth];
+    return PersianCalendarConstants.persianMonthNames[getPersianMonth()];
   }
 
   /**
    * @return int Persian day in month
    */
   public int getPersianDay() {
+    ensurePersianDate();
     return this.persianDay;
   }
 
@@ -147,8 +162,8 @@ public class PersianCalendar extends GregorianCalendar {
    */
   public String getPersianLongDate() {
     return getPersianWeekDayName() + "  "
-      + formatToMilitary(this.persianDay) + "  "
-      + getPersianMonthName() + "  " + this.persianYear;
+      + formatToMilitary(getPersianDay()) + "  "
+      + getPersianMonthName() + "  " + getPersianYear();
 
   }
 
@@ -157,9 +172,9 @@ public class PersianCalendar extends GregorianCalendar {
    * 'YYYY[delimiter]mm[delimiter]dd' default delimiter is '/'
    */
   public String getPersianShortDate() {
-    return "" + formatToMilitary(this.persianYear) + delimiter
+    return "" + formatToMilitary(getPersianYear()) + delimiter
       + formatToMilitary(getPersianMonth()) + delimiter
-      + formatToMilitary(this.persianDay);
+      + formatToMilitary(getPersianDay());
   }
 
   private String formatToMilitary(int i) {
@@ -193,17 +208,16 @@ public class PersianCalendar extends GregorianCalendar {
     }
 
     if (field == YEAR) {
-      setPersianDate(this.persianYear + amount, getPersianMonth(),
-        this.persianDay);
+      setPersianDate(getPersianYear() + amount, getPersianMonth(),
+        getPersianDay());
       return;
     } else if (field == MONTH) {
-      setPersianDate(this.persianYear
+      setPersianDate(getPersianYear()
           + ((getPersianMonth() + amount) / 12),
-        (getPersianMonth() + amount) % 12, this.persianDay);
+        (getPersianMonth() + amount) % 12, getPersianDay());
       return;
     }
     add(field, amount);
-    calculatePersianDate();
   }
 
   /**
@@ -256,181 +270,30 @@ public class PersianCalendar extends GregorianCalendar {
   @Override
   public void set(int field, int value) {
     super.set(field, value);
-    calculatePersianDate();
+    persianFieldsValid = false;
   }
 
   @Override
-  public void setTimeInMillis(long millis) {
-    super.setTimeInMillis(millis);
-    calculatePersianDate();
+  public void add(int field, int amount) {
+    super.add(field, amount);
+    persianFieldsValid = false;
   }
 
   @Override
-  public void setTimeZone(TimeZone zone) {
-    super.setTimeZone(zone);
-    calculatePersianDate();
+  public void roll(int field, int amount) {
+    super.roll(field, amount);
+    persianFieldsValid = false;
   }
 
-  // Helper Functions
-  private static int gregorianDaysInMonth[] = {31, 28, 31, 30, 31, 30, 31,
-    31, 30, 31, 30, 31};
-  private static int persianDaysInMonth[] = {31, 31, 31, 31, 31, 31, 30, 30,
-    30, 30, 30, 29};
-
-  private static YearMonthDay gregorianToJalali(YearMonthDay gregorian) {
-
-    if (gregorian.getMonth() > 11 || gregorian.getMonth() < -11) {
-      throw new IllegalArgumentException();
-    }
-    int persianYear;
-    int persianMonth;
-    int persianDay;
-
-    int gregorianDayNo, persianDayNo;
-    int persianNP;
-    int i;
-
-    gregorian.setYear(gregorian.getYear() - 1600);
-    gregorian.setDay(gregorian.getDay() - 1);
-
-    gregorianDayNo = 365 * gregorian.getYear() + (int) Math.floor((gregorian.getYear() + 3) / 4)
-      - (int) Math.floor((gregorian.getYear() + 99) / 100)
-      + (int) Math.floor((gregorian.getYear() + 399) / 400);
-    for (i = 0; i < gregorian.getMonth(); ++i) {
-      gregorianDayNo += gregorianDaysInMonth[i];
-    }
-
-    if (gregorian.getMonth() > 1 && ((gregorian.getYear() % 4 == 0 && gregorian.getYear() % 100 != 0)
-      || (gregorian.getYear() % 400 == 0))) {
-      ++gregorianDayNo;
-    }
-
-    gregorianDayNo += gregorian.getDay();
-
-    persianDayNo = gregorianDayNo - 79;
-
-    persianNP = (int) Math.floor(persianDayNo / 12053);
-    persianDayNo = persianDayNo % 12053;
-
-    persianYear = 979 + 33 * persianNP + 4 * (int) (persianDayNo / 1461);
-    persianDayNo = persianDayNo % 1461;
-
-    if (persianDayNo >= 366) {
-      persianYear += (int) Math.floor((persianDayNo - 1) / 365);
-      persianDayNo = (persianDayNo - 1) % 365;
-    }
-
-    for (i = 0; i < 11 && persianDayNo >= persianDaysInMonth[i]; ++i) {
-      persianDayNo -= persianDaysInMonth[i];
-    }
-    persianMonth = i;
-    persianDay = persianDayNo + 1;
-
-    return new YearMonthDay(persianYear, persianMonth, persianDay);
-  }
-
-
-  private static YearMonthDay persianToGregorian(YearMonthDay persian) {
-    if (persian.getMonth() > 11 || persian.getMonth() < -11) {
-      throw new IllegalArgumentException();
-    }
-
-    int gregorianYear;
-    int gregorianMonth;
-    int gregorianDay;
-
-    int gregorianDayNo, persianDayNo;
-    int leap;
-
-    int i;
-    persian.setYear(persian.getYear() - 979);
-    persian.setDay(persian.getDay() - 1);
-
-    persianDayNo = 365 * persian.getYear() + (int) (persian.getYear() / 33) * 8
-      + (int) Math.floor(((persian.getYear() % 33) + 3) / 4);
-    for (i = 0; i < persian.getMonth(); ++i) {
-      persianDayNo += persianDaysInMonth[i];
-    }
-
-    persianDayNo += persian.getDay();
-
-    gregorianDayNo = persianDayNo + 79;
-
-    gregorianYear = 1600 + 400 * (int) Math.floor(gregorianDayNo / 146097); /* 146097 = 365*400 + 400/4 - 400/100 + 400/400 */
-    gregorianDayNo = gregorianDayNo % 146097;
-
-    leap = 1;
-    if (gregorianDayNo >= 36525) /* 36525 = 365*100 + 100/4 */ {
-      gregorianDayNo--;
-      gregorianYear += 100 * (int) Math.floor(gregorianDayNo / 36524); /* 36524 = 365*100 + 100/4 - 100/100 */
-      gregorianDayNo = gregorianDayNo % 36524;
-
-      if (gregorianDayNo >= 365) {
-        gregorianDayNo++;
-      } else {
-        leap = 0;
-      }
-    }
-
-    gregorianYear += 4 * (int) Math.floor(gregorianDayNo / 1461); /* 1461 = 365*4 + 4/4 */
-    gregorianDayNo = gregorianDayNo % 1461;
-
-    if (gregorianDayNo >= 366) {
-      leap = 0;
-
-      gregorianDayNo--;
-      gregorianYear += (int) Math.floor(gregorianDayNo / 365);
-      gregorianDayNo = gregorianDayNo % 365;
-    }
-
-    for (i = 0; gregorianDayNo >= gregorianDaysInMonth[i] + ((i == 1 && leap == 1) ? i : 0); i++) {
-      gregorianDayNo -= gregorianDaysInMonth[i] + ((i == 1 && leap == 1) ? i : 0);
-    }
-    gregorianMonth = i;
-    gregorianDay = gregorianDayNo + 1;
-
-    return new YearMonthDay(gregorianYear, gregorianMonth, gregorianDay);
-
+  @Override
+  public void setTimeInMillis(long millis) {
+    super.setTimeInMillis(millis);
+    persianFieldsValid = false;
   }
 
-  static class YearMonthDay {
-
-    YearMonthDay(int year, int month, int day) {
-      this.year = year;
-      this.month = month;
-      this.day = day;
-    }
-
-    private int year;
-    private int month;
-    private int day;
-
-    public int getYear() {
-      return year;
-    }
-
-    public void setYear(int year) {
-      this.year = year;
-    }
-
-    public int getMonth() {
-      return month;
-    }
-
-    public void setMonth(int month) {
-      this.month = month;
-    }
-
-    public int getDay() {
-      return day;
-    }
-
-    public void setDay(int date) {
-      this.day = date;
-    }
-
-    public String toString() {
-      return getYear() + "/" + getMonth() + "/" + getDay();
-    }
+  @Override
+  public void setTimeZone(TimeZone zone) {
+    super.setTimeZone(zone);
+    persianFieldsValid = false;
   }
-}
\ No newline at end of file
+}
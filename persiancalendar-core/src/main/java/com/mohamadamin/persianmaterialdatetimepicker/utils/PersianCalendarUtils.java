@@ -0,0 +1,194 @@
+/**
+ * Persian Calendar see: http://code.google.com/p/persian-calendar/
+   Copyright (C) 2012  Mortezaadi@gmail.com
+   PersianCalendarUtils.java
+   
+   Persian Calendar is free software: you can redistribute it and/or modify
+   it under the terms of the GNU General Public License as published by
+   the Free Software Foundation, either version 3 of the License, or
+   (at your option) any later version.
+
+   This program is distributed in the hope that it will be useful,
+   but WITHOUT ANY WARRANTY; without even the implied warranty of
+   MERCHANTABILITY or FITNESS FOR A PARTICULAR PURPOSE.  See the
+   GNU General Public License for more details.
+
+   You should have received a copy of the GNU General Public License
+   along with this program.  If not, see <http://www.gnu.org/licenses/>.
+ */
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.util.SimpleTimeZone;
+import java.util.TimeZone;
+
+/**
+ * Julian Day Number helpers for the Persian calendar. The arithmetic itself
+ * lives in {@link PersianDateConverter} so that {@link PersianCalendar} and
+ * these helpers always agree on leap years; year boundaries are read from
+ * the shared {@link NowruzTable}.
+ * 
+ * @author Morteza contact: <a
+ *         href="mailto:Mortezaadi@gmail.com">Mortezaadi@gmail.com</a>
+ * @version 1.0
+ * 
+ */
+public class PersianCalendarUtils {
+
+	/**
+	 * Converts a provided Persian (Shamsi) date to the Julian Day Number (i.e.
+	 * the number of days since January 1 in the year 4713 BC). Since the
+	 * Persian calendar is a highly regular calendar, converting to and from a
+	 * Julian Day Number is not as difficult as it looks. Basically it's a
+	 * mather of dividing, rounding and multiplying. This routine uses Julian
+	 * Day Number 1948321 as focal point, since that Julian Day Number
+	 * corresponds with 1 Farvardin (1) 1.
+	 * 
+	 * @param year
+	 *            int persian year
+	 * @param month
+	 *            int persian month
+	 * @param day
+	 *            int persian day
+	 * @return long
+	 */
+	public static long persianToJulian(long year, int month, int day) {
+		return NowruzTable.getDefault().toEpochDay((int) year, month, day) + PersianDateConverter.JULIAN_DAY_OF_EPOCH;
+	}
+
+	/**
+	 * Calculate whether current year is Leap year in persian or not
+	 * 
+	 * @return boolean
+	 */
+	public static boolean isPersianLeapYear(int persianYear) {
+		return NowruzTable.getDefault().isLeapYear(persianYear);
+	}
+
+	/**
+	 * Converts a provided Julian Day Number (i.e. the number of days since
+	 * January 1 in the year 4713 BC) to the Persian (Shamsi) date. Since the
+	 * Persian calendar is a highly regular calendar, converting to and from a
+	 * Julian Day Number is not as difficult as it looks. Basically it's a
+	 * mather of dividing, rounding and multiplying.
+	 * 
+	 * @param julianDate
+	 * @return long
+	 */
+	public static long julianToPersian(long julianDate) {
+		int packed = NowruzTable.getDefault().toPacked(julianDate - PersianDateConverter.JULIAN_DAY_OF_EPOCH);
+		long year = PersianDateConverter.year(packed);
+		return (year << 16) | (PersianDateConverter.month(packed) << 8) | PersianDateConverter.day(packed);
+	}
+
+	/**
+	 * Converts a window of epoch milliseconds to packed persian dates (see
+	 * {@link PersianDateConverter#pack(int, int, int)}) in a fixed offset zone.
+	 * No objects are allocated.
+	 * 
+	 * @param millis
+	 *            source timestamps
+	 * @param offset
+	 *            first index read from millis
+	 * @param length
+	 *            number of timestamps to convert
+	 * @param out
+	 *            destination of packed persian dates
+	 * @param outOffset
+	 *            first index written to out
+	 * @param zoneOffsetMillis
+	 *            offset from UTC added to every timestamp
+	 */
+	public static void toPersian(long[] millis, int offset, int length, int[] out, int outOffset, int zoneOffsetMillis) {
+		checkWindow(millis.length, offset, length);
+		checkWindow(out.length, outOffset, length);
+		for (int i = 0; i < length; i++) {
+			long epochDay = PersianDateConverter.floorDiv(millis[offset + i] + zoneOffsetMillis, PersianCalendarConstants.MILLIS_OF_A_DAY);
+			out[outOffset + i] = PersianDateConverter.toPacked(epochDay);
+		}
+	}
+
+	/**
+	 * Converts a window of epoch milliseconds to packed persian dates in the
+	 * given time zone. Zones without offset changes take the fixed offset
+	 * path; for other zones the local day of the previous timestamp is cached,
+	 * so sorted or clustered columns mostly skip both the zone lookup and the
+	 * conversion. No objects are allocated per timestamp.
+	 * 
+	 * @see #toPersian(long[], int, int, int[], int, int)
+	 */
+	public static void toPersian(long[] millis, int offset, int length, int[] out, int outOffset, TimeZone zone) {
+		checkWindow(millis.length, offset, length);
+		checkWindow(out.length, outOffset, length);
+		if (zone.hasSameRules(new SimpleTimeZone(zone.getRawOffset(), zone.getID()))) {
+			toPersian(millis, offset, length, out, outOffset, zone.getRawOffset());
+			return;
+		}
+		// [dayStart, dayEnd) is the UTC range of the last converted local day,
+		// trusted only once the zone offset is known to be the same at both ends
+		long dayStart = 0;
+		long dayEnd = 0;
+		boolean dayVerified = false;
+		int packed = 0;
+		for (int i = 0; i < length; i++) {
+			long value = millis[offset + i];
+			if (value >= dayStart && value < dayEnd) {
+				if (!dayVerified) {
+					dayVerified = zone.getOffset(dayStart) == zone.getOffset(dayEnd - 1);
+				}
+				if (dayVerified) {
+					out[outOffset + i] = packed;
+					continue;
+				}
+			}
+			int zoneOffset = zone.getOffset(value);
+			long epochDay = PersianDateConverter.floorDiv(value + zoneOffset, PersianCalendarConstants.MILLIS_OF_A_DAY);
+			packed = PersianDateConverter.toPacked(epochDay);
+			out[outOffset + i] = packed;
+			dayStart = epochDay * PersianCalendarConstants.MILLIS_OF_A_DAY - zoneOffset;
+			dayEnd = dayStart + PersianCalendarConstants.MILLIS_OF_A_DAY;
+			dayVerified = false;
+		}
+	}
+
+	/**
+	 * Converts a window of packed persian dates to epoch days. No objects are
+	 * allocated.
+	 * 
+	 * @param packed
+	 *            source dates packed by
+	 *            {@link PersianDateConverter#pack(int, int, int)}
+	 * @param offset
+	 *            first index read from packed
+	 * @param length
+	 *            number of dates to convert
+	 * @param out
+	 *            destination of epoch days
+	 * @param outOffset
+	 *            first index written to out
+	 */
+	public static void toEpochDays(int[] packed, int offset, int length, long[] out, int outOffset) {
+		checkWindow(packed.length, offset, length);
+		checkWindow(out.length, outOffset, length);
+		for (int i = 0; i < length; i++) {
+			out[outOffset + i] = PersianDateConverter.toEpochDay(packed[offset + i]);
+		}
+	}
+
+	static void checkWindow(int arrayLength, int offset, int length) {
+		if (offset < 0 || length < 0 || offset > arrayLength - length) {
+			throw new ArrayIndexOutOfBoundsException("offset " + offset + ", length " + length + ", array length " + arrayLength);
+		}
+	}
+
+	/**
+	 * Ceil function in original algorithm
+	 * 
+	 * @param double1
+	 * @param double2
+	 * @return long
+	 */
+	public static long ceil(double double1, double double2) {
+		return (long) (double1 - double2 * Math.floor(double1 / double2));
+	}
+
+}
@@ -0,0 +1,442 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.io.Serializable;
+import java.time.DateTimeException;
+import java.time.chrono.ChronoLocalDate;
+import java.time.chrono.ChronoPeriod;
+import java.time.temporal.ChronoField;
+import java.time.temporal.ChronoUnit;
+import java.time.temporal.Temporal;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalAdjuster;
+import java.time.temporal.TemporalAmount;
+import java.time.temporal.TemporalField;
+import java.time.temporal.TemporalUnit;
+import java.time.temporal.UnsupportedTemporalTypeException;
+import java.time.temporal.ValueRange;
+
+/**
+ * Date in the {@link PersianChronology}, backed by a packed int like
+ * {@link PersianDate}.
+ * <p>
+ * Months are one based as everywhere in java.time. Works with
+ * {@link java.time.temporal.TemporalAdjusters},
+ * {@link java.time.format.DateTimeFormatter} and the other ISO based temporal
+ * types through the epoch day.
+ * <p>
+ * Relies on the default methods of the java.time interfaces, so it needs Java
+ * 8, or API 26 on Android, as {@link PersianChronology} does.
+ */
+public final class PersianChronoLocalDate implements ChronoLocalDate, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int packed;
+
+	private PersianChronoLocalDate(int packed) {
+		this.packed = packed;
+	}
+
+	/**
+	 * @param month
+	 *            one based persian month
+	 * @exception DateTimeException
+	 *                if a field is out of range
+	 */
+	public static PersianChronoLocalDate of(int prolepticYear, int month, int dayOfMonth) {
+		PersianChronology chronology = PersianChronology.INSTANCE;
+		chronology.range(ChronoField.YEAR).checkValidValue(prolepticYear, ChronoField.YEAR);
+		chronology.range(ChronoField.MONTH_OF_YEAR).checkValidValue(month, ChronoField.MONTH_OF_YEAR);
+		chronology.range(ChronoField.DAY_OF_MONTH).checkValidValue(dayOfMonth, ChronoField.DAY_OF_MONTH);
+		if (dayOfMonth > PersianDateConverter.daysInMonth(prolepticYear, month - 1)) {
+			throw new DateTimeException("Invalid date: day " + dayOfMonth + " of month " + month + " in year "
+					+ prolepticYear);
+		}
+		return new PersianChronoLocalDate(PersianDateConverter.pack(prolepticYear, month - 1, dayOfMonth));
+	}
+
+	/**
+	 * @exception DateTimeException
+	 *                if the year or day of year is out of range
+	 */
+	public static PersianChronoLocalDate ofYearDay(int prolepticYear, int dayOfYear) {
+		PersianChronology.INSTANCE.range(ChronoField.YEAR).checkValidValue(prolepticYear, ChronoField.YEAR);
+		if (dayOfYear < 1 || dayOfYear > PersianDateConverter.daysInYear(prolepticYear)) {
+			throw new DateTimeException("Invalid day of year " + dayOfYear + " in year " + prolepticYear);
+		}
+		return new PersianChronoLocalDate(PersianDateConverter.packDayOfYear(prolepticYear, dayOfYear - 1));
+	}
+
+	/**
+	 * @exception DateTimeException
+	 *                if the epoch day is out of range
+	 */
+	public static PersianChronoLocalDate ofEpochDay(long epochDay) {
+		PersianChronology.INSTANCE.range(ChronoField.EPOCH_DAY).checkValidValue(epochDay, ChronoField.EPOCH_DAY);
+		return new PersianChronoLocalDate(PersianDateConverter.toPacked(epochDay));
+	}
+
+	/**
+	 * Converts any temporal with an epoch day, e.g. a
+	 * {@link java.time.LocalDate} or {@link java.time.ZonedDateTime}.
+	 */
+	public static PersianChronoLocalDate from(TemporalAccessor temporal) {
+		if (temporal instanceof PersianChronoLocalDate) {
+			return (PersianChronoLocalDate) temporal;
+		}
+		return ofEpochDay(temporal.getLong(ChronoField.EPOCH_DAY));
+	}
+
+	public static PersianChronoLocalDate from(PersianDate date) {
+		return new PersianChronoLocalDate(date.toPacked());
+	}
+
+	public PersianDate toPersianDate() {
+		return PersianDate.ofPacked(packed);
+	}
+
+	@Override
+	public PersianChronology getChronology() {
+		return PersianChronology.INSTANCE;
+	}
+
+	@Override
+	public PersianEra getEra() {
+		return getYear() >= 1 ? PersianEra.AP : PersianEra.BEFORE_AP;
+	}
+
+	/**
+	 * @return proleptic year
+	 */
+	public int getYear() {
+		return PersianDateConverter.year(packed);
+	}
+
+	/**
+	 * @return one based persian month
+	 */
+	public int getMonthValue() {
+		return PersianDateConverter.month(packed) + 1;
+	}
+
+	public int getDayOfMonth() {
+		return PersianDateConverter.day(packed);
+	}
+
+	public int getDayOfYear() {
+		return PersianDateConverter.daysBeforeMonth(PersianDateConverter.month(packed)) + getDayOfMonth();
+	}
+
+	@Override
+	public boolean isLeapYear() {
+		return PersianDateConverter.isLeapYear(getYear());
+	}
+
+	@Override
+	public int lengthOfMonth() {
+		return PersianDateConverter.daysInMonth(getYear(), PersianDateConverter.month(packed));
+	}
+
+	@Override
+	public int lengthOfYear() {
+		return PersianDateConverter.daysInYear(getYear());
+	}
+
+	@Override
+	public long toEpochDay() {
+		return PersianDateConverter.toEpochDay(packed);
+	}
+
+	@Override
+	public boolean isSupported(TemporalField field) {
+		if (field instanceof ChronoField) {
+			return field.isDateBased();
+		}
+		return field != null && field.isSupportedBy(this);
+	}
+
+	@Override
+	public ValueRange range(TemporalField field) {
+		if (!(field instanceof ChronoField)) {
+			return field.rangeRefinedBy(this);
+		}
+		if (!isSupported(field)) {
+			throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+		}
+		switch ((ChronoField) field) {
+			case DAY_OF_MONTH:
+				return ValueRange.of(1, lengthOfMonth());
+			case DAY_OF_YEAR:
+				return ValueRange.of(1, lengthOfYear());
+			case YEAR_OF_ERA:
+				return ValueRange.of(1, getYear() >= 1 ? PersianChronology.MAX_YEAR : 1 - PersianChronology.MIN_YEAR);
+			default:
+				return getChronology().range((ChronoField) field);
+		}
+	}
+
+	@Override
+	public long getLong(TemporalField field) {
+		if (!(field instanceof ChronoField)) {
+			return field.getFrom(this);
+		}
+		int year = getYear();
+		switch ((ChronoField) field) {
+			case DAY_OF_WEEK:
+				// 1 is Monday as in java.time.DayOfWeek
+				return PersianDateConverter.floorMod(toEpochDay() + 3, 7) + 1;
+			case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+				return (getDayOfMonth() - 1) % 7 + 1;
+			case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+				return (getDayOfYear() - 1) % 7 + 1;
+			case DAY_OF_MONTH:
+				return getDayOfMonth();
+			case DAY_OF_YEAR:
+				return getDayOfYear();
+			case EPOCH_DAY:
+				return toEpochDay();
+			case ALIGNED_WEEK_OF_MONTH:
+				return (getDayOfMonth() - 1) / 7 + 1;
+			case ALIGNED_WEEK_OF_YEAR:
+				return (getDayOfYear() - 1) / 7 + 1;
+			case MONTH_OF_YEAR:
+				return getMonthValue();
+			case PROLEPTIC_MONTH:
+				return getProlepticMonth();
+			case YEAR_OF_ERA:
+				return year >= 1 ? year : 1 - year;
+			case YEAR:
+				return year;
+			case ERA:
+				return year >= 1 ? 1 : 0;
+			default:
+				throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+		}
+	}
+
+	private long getProlepticMonth() {
+		return getYear() * 12L + PersianDateConverter.month(packed);
+	}
+
+	@Override
+	public PersianChronoLocalDate with(TemporalAdjuster adjuster) {
+		return ensurePersian(adjuster.adjustInto(this));
+	}
+
+	@Override
+	public PersianChronoLocalDate with(TemporalField field, long newValue) {
+		if (!(field instanceof ChronoField)) {
+			return ensurePersian(field.adjustInto(this, newValue));
+		}
+		ChronoField chronoField = (ChronoField) field;
+		if (!isSupported(field)) {
+			throw new UnsupportedTemporalTypeException("Unsupported field: " + field);
+		}
+		getChronology().range(chronoField).checkValidValue(newValue, chronoField);
+		int value = (int) newValue;
+		switch (chronoField) {
+			case DAY_OF_WEEK:
+			case ALIGNED_DAY_OF_WEEK_IN_MONTH:
+			case ALIGNED_DAY_OF_WEEK_IN_YEAR:
+				return plusDays(newValue - getLong(field));
+			case ALIGNED_WEEK_OF_MONTH:
+			case ALIGNED_WEEK_OF_YEAR:
+				return plusDays((newValue - getLong(field)) * 7);
+			case DAY_OF_MONTH:
+				return of(getYear(), getMonthValue(), value);
+			case DAY_OF_YEAR:
+				return ofYearDay(getYear(), value);
+			case EPOCH_DAY:
+				return ofEpochDay(newValue);
+			case MONTH_OF_YEAR:
+				return resolvePreviousValid(getYear(), value, getDayOfMonth());
+			case PROLEPTIC_MONTH:
+				return plusMonths(newValue - getProlepticMonth());
+			case YEAR_OF_ERA:
+				return resolvePreviousValid(getYear() >= 1 ? value : 1 - value, getMonthValue(), getDayOfMonth());
+			case YEAR:
+				return resolvePreviousValid(value, getMonthValue(), getDayOfMonth());
+			default:
+				// ERA
+				return getLong(ChronoField.ERA) == newValue ? this : resolvePreviousValid(1 - getYear(),
+						getMonthValue(), getDayOfMonth());
+		}
+	}
+
+	/**
+	 * @return the given date, or the last day of its month if the day is past
+	 * it
+	 */
+	private static PersianChronoLocalDate resolvePreviousValid(int prolepticYear, int month, int dayOfMonth) {
+		PersianChronology.INSTANCE.range(ChronoField.YEAR).checkValidValue(prolepticYear, ChronoField.YEAR);
+		int day = Math.min(dayOfMonth, PersianDateConverter.daysInMonth(prolepticYear, month - 1));
+		return new PersianChronoLocalDate(PersianDateConverter.pack(prolepticYear, month - 1, day));
+	}
+
+	@Override
+	public PersianChronoLocalDate plus(TemporalAmount amount) {
+		return ensurePersian(amount.addTo(this));
+	}
+
+	@Override
+	public PersianChronoLocalDate plus(long amountToAdd, TemporalUnit unit) {
+		if (!(unit instanceof ChronoUnit)) {
+			return ensurePersian(unit.addTo(this, amountToAdd));
+		}
+		switch ((ChronoUnit) unit) {
+			case DAYS:
+				return plusDays(amountToAdd);
+			case WEEKS:
+				return plusDays(Math.multiplyExact(amountToAdd, 7));
+			case MONTHS:
+				return plusMonths(amountToAdd);
+			case YEARS:
+				return plusYears(amountToAdd);
+			case DECADES:
+				return plusYears(Math.multiplyExact(amountToAdd, 10));
+			case CENTURIES:
+				return plusYears(Math.multiplyExact(amountToAdd, 100));
+			case MILLENNIA:
+				return plusYears(Math.multiplyExact(amountToAdd, 1000));
+			case ERAS:
+				return with(ChronoField.ERA, Math.addExact(getLong(ChronoField.ERA), amountToAdd));
+			default:
+				throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+		}
+	}
+
+	@Override
+	public PersianChronoLocalDate minus(TemporalAmount amount) {
+		return ensurePersian(amount.subtractFrom(this));
+	}
+
+	@Override
+	public PersianChronoLocalDate minus(long amountToSubtract, TemporalUnit unit) {
+		if (amountToSubtract == Long.MIN_VALUE) {
+			return plus(Long.MAX_VALUE, unit).plus(1, unit);
+		}
+		return plus(-amountToSubtract, unit);
+	}
+
+	public PersianChronoLocalDate plusDays(long days) {
+		if (days == 0) {
+			return this;
+		}
+		return ofEpochDay(Math.addExact(toEpochDay(), days));
+	}
+
+	/**
+	 * Adds months, clamping the day to the length of the resulting month.
+	 */
+	public PersianChronoLocalDate plusMonths(long months) {
+		if (months == 0) {
+			return this;
+		}
+		long prolepticMonth = Math.addExact(getProlepticMonth(), months);
+		PersianChronology.INSTANCE.range(ChronoField.PROLEPTIC_MONTH).checkValidValue(prolepticMonth,
+				ChronoField.PROLEPTIC_MONTH);
+		int year = (int) PersianDateConverter.floorDiv(prolepticMonth, 12);
+		int month = (int) PersianDateConverter.floorMod(prolepticMonth, 12);
+		return resolvePreviousValid(year, month + 1, getDayOfMonth());
+	}
+
+	/**
+	 * Adds years, moving 30 Esfand of a leap year to 29 Esfand if needed.
+	 */
+	public PersianChronoLocalDate plusYears(long years) {
+		if (years == 0) {
+			return this;
+		}
+		long year = Math.addExact(getYear(), years);
+		PersianChronology.INSTANCE.range(ChronoField.YEAR).checkValidValue(year, ChronoField.YEAR);
+		return resolvePreviousValid((int) year, getMonthValue(), getDayOfMonth());
+	}
+
+	@Override
+	public long until(Temporal endExclusive, TemporalUnit unit) {
+		PersianChronoLocalDate end = from(endExclusive);
+		if (!(unit instanceof ChronoUnit)) {
+			return unit.between(this, end);
+		}
+		switch ((ChronoUnit) unit) {
+			case DAYS:
+				return end.toEpochDay() - toEpochDay();
+			case WEEKS:
+				return (end.toEpochDay() - toEpochDay()) / 7;
+			case MONTHS:
+				return monthsUntil(end);
+			case YEARS:
+				return monthsUntil(end) / 12;
+			case DECADES:
+				return monthsUntil(end) / 120;
+			case CENTURIES:
+				return monthsUntil(end) / 1200;
+			case MILLENNIA:
+				return monthsUntil(end) / 12000;
+			case ERAS:
+				return end.getLong(ChronoField.ERA) - getLong(ChronoField.ERA);
+			default:
+				throw new UnsupportedTemporalTypeException("Unsupported unit: " + unit);
+		}
+	}
+
+	private long monthsUntil(PersianChronoLocalDate end) {
+		long start = getProlepticMonth() * 32L + getDayOfMonth();
+		long stop = end.getProlepticMonth() * 32L + end.getDayOfMonth();
+		return (stop - start) / 32;
+	}
+
+	@Override
+	public ChronoPeriod until(ChronoLocalDate endDateExclusive) {
+		PersianChronoLocalDate end = from(endDateExclusive);
+		long totalMonths = end.getProlepticMonth() - getProlepticMonth();
+		int days = end.getDayOfMonth() - getDayOfMonth();
+		if (totalMonths > 0 && days < 0) {
+			totalMonths--;
+			days = (int) (end.toEpochDay() - plusMonths(totalMonths).toEpochDay());
+		} else if (totalMonths < 0 && days > 0) {
+			totalMonths++;
+			days -= end.lengthOfMonth();
+		}
+		return getChronology().period((int) (totalMonths / 12), (int) (totalMonths % 12), days);
+	}
+
+	private static PersianChronoLocalDate ensurePersian(Temporal temporal) {
+		if (!(temporal instanceof PersianChronoLocalDate)) {
+			throw new ClassCastException("Expected a PersianChronoLocalDate, got " + temporal);
+		}
+		return (PersianChronoLocalDate) temporal;
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		if (this == obj) {
+			return true;
+		}
+		if (!(obj instanceof PersianChronoLocalDate)) {
+			return false;
+		}
+		return packed == ((PersianChronoLocalDate) obj).packed;
+	}
+
+	@Override
+	public int hashCode() {
+		return getChronology().getId().hashCode() ^ packed;
+	}
+
+	/**
+	 * @return e.g. {@code "Persian AP 1397-04-01"}
+	 */
+	@Override
+	public String toString() {
+		int year = getYear();
+		int month = getMonthValue();
+		int day = getDayOfMonth();
+		StringBuilder builder = new StringBuilder(24);
+		builder.append(getChronology().getId()).append(' ').append(getEra()).append(' ')
+				.append(year >= 1 ? year : 1 - year).append(month < 10 ? "-0" : "-").append(month)
+				.append(day < 10 ? "-0" : "-").append(day);
+		return builder.toString();
+	}
+
+}
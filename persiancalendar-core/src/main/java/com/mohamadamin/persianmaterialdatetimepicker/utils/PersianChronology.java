@@ -0,0 +1,204 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.io.Serializable;
+import java.time.Clock;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.time.chrono.AbstractChronology;
+import java.time.chrono.Era;
+import java.time.format.ResolverStyle;
+import java.time.temporal.ChronoField;
+import java.time.temporal.TemporalAccessor;
+import java.time.temporal.TemporalField;
+import java.time.temporal.ValueRange;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * {@link java.time.chrono.Chronology} of the persian (solar hijri) calendar,
+ * using the arithmetic of {@link PersianDateConverter}.
+ * <p>
+ * Dates are {@link PersianChronoLocalDate}s; as everywhere in java.time, and
+ * unlike {@link PersianCalendar}, months run from 1 (Farvardin) to 12
+ * (Esfand). Conversion from and to {@link LocalDate} is a single epoch day
+ * hop:
+ *
+ * <pre>
+ *  {@code
+ *    PersianChronoLocalDate persian = PersianChronology.INSTANCE.date(localDate);
+ *    LocalDate gregorian = LocalDate.from(persian);
+ *    DateTimeFormatter formatter = DateTimeFormatter.ofPattern("yyyy/MM/dd")
+ *        .withChronology(PersianChronology.INSTANCE);
+ *  }
+ * </pre>
+ *
+ * The chronology is not registered with {@link java.util.ServiceLoader}, use
+ * {@link #INSTANCE} instead of {@code Chronology.of("Persian")}. Needs API 26
+ * on Android; the rest of the library does not load this class.
+ */
+public final class PersianChronology extends AbstractChronology implements Serializable {
+
+	public static final PersianChronology INSTANCE = new PersianChronology();
+
+	public static final int MIN_YEAR = -999999;
+	public static final int MAX_YEAR = 999999;
+
+	private static final long serialVersionUID = 1L;
+
+	private static final List<Era> ERAS = Collections.unmodifiableList(Arrays.<Era> asList(PersianEra.values()));
+
+	// ranges differing from ChronoField.range(), built once
+	private static final ValueRange YEAR_RANGE = ValueRange.of(MIN_YEAR, MAX_YEAR);
+	private static final ValueRange YEAR_OF_ERA_RANGE = ValueRange.of(1, MAX_YEAR, 1 - MIN_YEAR);
+	private static final ValueRange ERA_RANGE = ValueRange.of(0, 1);
+	private static final ValueRange PROLEPTIC_MONTH_RANGE = ValueRange.of(MIN_YEAR * 12L, MAX_YEAR * 12L + 11);
+	private static final ValueRange MONTH_OF_YEAR_RANGE = ValueRange.of(1, 12);
+	private static final ValueRange DAY_OF_MONTH_RANGE = ValueRange.of(1, 29, 31);
+	private static final ValueRange DAY_OF_YEAR_RANGE = ValueRange.of(1, 365, 366);
+	private static final ValueRange ALIGNED_WEEK_OF_MONTH_RANGE = ValueRange.of(1, 5);
+	private static final ValueRange ALIGNED_WEEK_OF_YEAR_RANGE = ValueRange.of(1, 53);
+	private static final ValueRange EPOCH_DAY_RANGE = ValueRange.of(PersianDateConverter.yearStart(MIN_YEAR),
+			PersianDateConverter.yearStart(MAX_YEAR + 1) - 1);
+
+	private PersianChronology() {
+	}
+
+	/**
+	 * @return {@code "Persian"}
+	 */
+	@Override
+	public String getId() {
+		return "Persian";
+	}
+
+	/**
+	 * @return {@code "persian"}, the Unicode LDML calendar type
+	 */
+	@Override
+	public String getCalendarType() {
+		return "persian";
+	}
+
+	/**
+	 * @param month
+	 *            one based persian month
+	 * @exception DateTimeException
+	 *                if a field is out of range
+	 */
+	@Override
+	public PersianChronoLocalDate date(int prolepticYear, int month, int dayOfMonth) {
+		return PersianChronoLocalDate.of(prolepticYear, month, dayOfMonth);
+	}
+
+	@Override
+	public PersianChronoLocalDate date(Era era, int yearOfEra, int month, int dayOfMonth) {
+		return date(prolepticYear(era, yearOfEra), month, dayOfMonth);
+	}
+
+	@Override
+	public PersianChronoLocalDate dateYearDay(int prolepticYear, int dayOfYear) {
+		return PersianChronoLocalDate.ofYearDay(prolepticYear, dayOfYear);
+	}
+
+	@Override
+	public PersianChronoLocalDate dateYearDay(Era era, int yearOfEra, int dayOfYear) {
+		return dateYearDay(prolepticYear(era, yearOfEra), dayOfYear);
+	}
+
+	@Override
+	public PersianChronoLocalDate dateEpochDay(long epochDay) {
+		return PersianChronoLocalDate.ofEpochDay(epochDay);
+	}
+
+	@Override
+	public PersianChronoLocalDate date(TemporalAccessor temporal) {
+		return PersianChronoLocalDate.from(temporal);
+	}
+
+	@Override
+	public PersianChronoLocalDate dateNow() {
+		return dateEpochDay(LocalDate.now().toEpochDay());
+	}
+
+	@Override
+	public PersianChronoLocalDate dateNow(ZoneId zone) {
+		return dateEpochDay(LocalDate.now(zone).toEpochDay());
+	}
+
+	@Override
+	public PersianChronoLocalDate dateNow(Clock clock) {
+		return dateEpochDay(LocalDate.now(clock).toEpochDay());
+	}
+
+	@Override
+	public PersianChronoLocalDate resolveDate(Map<TemporalField, Long> fieldValues, ResolverStyle resolverStyle) {
+		return (PersianChronoLocalDate) super.resolveDate(fieldValues, resolverStyle);
+	}
+
+	/**
+	 * @exception DateTimeException
+	 *                if the year is out of range
+	 */
+	@Override
+	public boolean isLeapYear(long prolepticYear) {
+		return PersianDateConverter.isLeapYear(YEAR_RANGE.checkValidIntValue(prolepticYear, ChronoField.YEAR));
+	}
+
+	/**
+	 * @exception ClassCastException
+	 *                if the era is not a {@link PersianEra}
+	 */
+	@Override
+	public int prolepticYear(Era era, int yearOfEra) {
+		if (!(era instanceof PersianEra)) {
+			throw new ClassCastException("Era must be PersianEra");
+		}
+		return era == PersianEra.AP ? yearOfEra : 1 - yearOfEra;
+	}
+
+	@Override
+	public PersianEra eraOf(int eraValue) {
+		return PersianEra.of(eraValue);
+	}
+
+	@Override
+	public List<Era> eras() {
+		return ERAS;
+	}
+
+	@Override
+	public ValueRange range(ChronoField field) {
+		switch (field) {
+			case YEAR:
+				return YEAR_RANGE;
+			case YEAR_OF_ERA:
+				return YEAR_OF_ERA_RANGE;
+			case ERA:
+				return ERA_RANGE;
+			case PROLEPTIC_MONTH:
+				return PROLEPTIC_MONTH_RANGE;
+			case MONTH_OF_YEAR:
+				return MONTH_OF_YEAR_RANGE;
+			case DAY_OF_MONTH:
+				return DAY_OF_MONTH_RANGE;
+			case DAY_OF_YEAR:
+				return DAY_OF_YEAR_RANGE;
+			case ALIGNED_WEEK_OF_MONTH:
+				return ALIGNED_WEEK_OF_MONTH_RANGE;
+			case ALIGNED_WEEK_OF_YEAR:
+				return ALIGNED_WEEK_OF_YEAR_RANGE;
+			case EPOCH_DAY:
+				return EPOCH_DAY_RANGE;
+			default:
+				return field.range();
+		}
+	}
+
+	private Object readResolve() {
+		return INSTANCE;
+	}
+
+}
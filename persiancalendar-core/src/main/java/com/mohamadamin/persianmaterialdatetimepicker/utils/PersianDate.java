@@ -0,0 +1,165 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.io.Serializable;
+
+/**
+ * Immutable persian date without time of day or time zone, backed by a single
+ * packed int as produced by {@link PersianDateConverter}.
+ * <p>
+ * Unlike {@link PersianCalendar} it is cheap to store in large numbers, to
+ * compare and to use as a {@link java.util.HashMap} key. Months are zero based
+ * like {@link PersianCalendar#getPersianMonth()}.
+ */
+public final class PersianDate implements Comparable<PersianDate>, Serializable {
+
+	private static final long serialVersionUID = 1L;
+
+	private final int packed;
+
+	private PersianDate(int packed) {
+		this.packed = packed;
+	}
+
+	/**
+	 * @param month zero based persian month
+	 * @exception IllegalArgumentException if month or day is out of range
+	 */
+	public static PersianDate of(int year, int month, int day) {
+		if (month < 0 || month > 11) {
+			throw new IllegalArgumentException("month is not valid: " + month);
+		}
+		if (day < 1 || day > PersianDateConverter.daysInMonth(year, month)) {
+			throw new IllegalArgumentException("day is not valid: " + day);
+		}
+		return new PersianDate(PersianDateConverter.pack(year, month, day));
+	}
+
+	/**
+	 * @param packed date packed by {@link PersianDateConverter#pack(int, int, int)}
+	 */
+	public static PersianDate ofPacked(int packed) {
+		return of(PersianDateConverter.year(packed), PersianDateConverter.month(packed),
+				PersianDateConverter.day(packed));
+	}
+
+	public static PersianDate ofEpochDay(long epochDay) {
+		return new PersianDate(PersianDateConverter.toPacked(epochDay));
+	}
+
+	/**
+	 * @return the persian date of the given calendar, ignoring its time of day
+	 */
+	public static PersianDate from(PersianCalendar calendar) {
+		return of(calendar.getPersianYear(), calendar.getPersianMonth(), calendar.getPersianDay());
+	}
+
+	public int getYear() {
+		return PersianDateConverter.year(packed);
+	}
+
+	/**
+	 * @return zero based persian month
+	 */
+	public int getMonth() {
+		return PersianDateConverter.month(packed);
+	}
+
+	public int getDay() {
+		return PersianDateConverter.day(packed);
+	}
+
+	/**
+	 * @return day of week where 0 is Saturday, see
+	 * {@link PersianCalendarConstants#persianWeekDays}
+	 */
+	public int getDayOfWeek() {
+		return PersianDateConverter.persianDayOfWeek(toEpochDay());
+	}
+
+	public boolean isLeapYear() {
+		return PersianDateConverter.isLeapYear(getYear());
+	}
+
+	public int lengthOfMonth() {
+		return PersianDateConverter.daysInMonth(getYear(), getMonth());
+	}
+
+	public int toPacked() {
+		return packed;
+	}
+
+	public long toEpochDay() {
+		return PersianDateConverter.toEpochDay(packed);
+	}
+
+	public PersianDate plusDays(long days) {
+		if (days == 0) {
+			return this;
+		}
+		return ofEpochDay(toEpochDay() + days);
+	}
+
+	/**
+	 * Adds months, clamping the day to the length of the resulting month,
+	 * e.g. 31 Shahrivar plus one month is 30 Mehr.
+	 */
+	public PersianDate plusMonths(int months) {
+		if (months == 0) {
+			return this;
+		}
+		int ordinal = PersianDateConverter.monthOrdinal(packed) + months;
+		int year = (int) PersianDateConverter.floorDiv(ordinal, 12);
+		int month = (int) PersianDateConverter.floorMod(ordinal, 12);
+		int day = Math.min(getDay(), PersianDateConverter.daysInMonth(year, month));
+		return new PersianDate(PersianDateConverter.pack(year, month, day));
+	}
+
+	public PersianDate plusYears(int years) {
+		return plusMonths(years * 12);
+	}
+
+	public boolean isBefore(PersianDate other) {
+		return packed < other.packed;
+	}
+
+	public boolean isAfter(PersianDate other) {
+		return packed > other.packed;
+	}
+
+	/**
+	 * @return a new PersianCalendar in the default time zone set to the start of
+	 * this date
+	 */
+	public PersianCalendar toPersianCalendar() {
+		PersianCalendar calendar = new PersianCalendar();
+		calendar.clear();
+		calendar.setPersianDate(getYear(), getMonth(), getDay());
+		return calendar;
+	}
+
+	@Override
+	public int compareTo(PersianDate other) {
+		return packed < other.packed ? -1 : (packed == other.packed ? 0 : 1);
+	}
+
+	@Override
+	public boolean equals(Object obj) {
+		return this == obj || (obj instanceof PersianDate && ((PersianDate) obj).packed == packed);
+	}
+
+	@Override
+	public int hashCode() {
+		return packed;
+	}
+
+	/**
+	 * @return date formatted as yyyy/MM/dd with a one based month
+	 */
+	@Override
+	public String toString() {
+		int month = getMonth() + 1;
+		int day = getDay();
+		return getYear() + (month < 10 ? "/0" : "/") + month + (day < 10 ? "/0" : "/") + day;
+	}
+
+}
@@ -0,0 +1,120 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.util.Arrays;
+
+/**
+ * Compact binary form of lists of persian days, meant for saved instance
+ * state. Days are packed by {@link PersianDateConverter#pack(int, int, int)},
+ * sorted, and written as their count, the first date and then the gaps
+ * between consecutive dates, each as an unsigned LEB128 varint. Nearby days
+ * differ by small gaps, so most of them take a single byte, against the few
+ * hundred bytes of a serialized {@link PersianCalendar}.
+ */
+public final class PersianDateCodec {
+
+	private static final int[] EMPTY = new int[0];
+
+	private PersianDateCodec() {
+	}
+
+	/**
+	 * @param days
+	 *            days in any order, duplicates are kept and time of day is
+	 *            dropped
+	 */
+	public static byte[] encode(PersianCalendar[] days) {
+		int[] packed = new int[days.length];
+		for (int i = 0; i < days.length; i++) {
+			packed[i] = PersianDateConverter.pack(days[i].getPersianYear(), days[i].getPersianMonth(),
+					days[i].getPersianDay());
+		}
+		Arrays.sort(packed);
+		return encode(packed, 0, packed.length);
+	}
+
+	/**
+	 * @param sortedPackedDates
+	 *            non negative packed dates in ascending order
+	 * @throws IllegalArgumentException
+	 *             if the dates are negative or out of order
+	 */
+	public static byte[] encode(int[] sortedPackedDates, int offset, int length) {
+		// a varint of an int takes at most 5 bytes
+		byte[] buffer = new byte[5 * (length + 1)];
+		int position = writeVarint(buffer, 0, length);
+		int previous = 0;
+		for (int i = offset; i < offset + length; i++) {
+			int date = sortedPackedDates[i];
+			if (date < previous) {
+				throw new IllegalArgumentException("dates must be non negative and sorted, found " + date
+						+ " after " + previous);
+			}
+			position = writeVarint(buffer, position, date - previous);
+			previous = date;
+		}
+		return Arrays.copyOf(buffer, position);
+	}
+
+	/**
+	 * @return the packed dates of {@link #encode(int[], int, int)}, in
+	 *         ascending order
+	 * @throws IllegalArgumentException
+	 *             if the bytes were not written by this class
+	 */
+	public static int[] decode(byte[] encoded) {
+		int[] position = new int[1];
+		int length = readVarint(encoded, position);
+		if (length == 0) {
+			return EMPTY;
+		}
+		// every date takes at least one byte
+		if (length > encoded.length - position[0]) {
+			throw new IllegalArgumentException("truncated dates, expected " + length);
+		}
+		int[] dates = new int[length];
+		int previous = 0;
+		for (int i = 0; i < length; i++) {
+			previous += readVarint(encoded, position);
+			dates[i] = previous;
+		}
+		return dates;
+	}
+
+	/**
+	 * @return new calendars set to the packed dates, in the same order
+	 */
+	public static PersianCalendar[] toPersianCalendars(int[] packedDates) {
+		PersianCalendar[] calendars = new PersianCalendar[packedDates.length];
+		for (int i = 0; i < packedDates.length; i++) {
+			calendars[i] = PersianDateSet.toPersianCalendar(packedDates[i]);
+		}
+		return calendars;
+	}
+
+	private static int writeVarint(byte[] buffer, int position, int value) {
+		while ((value & ~0x7F) != 0) {
+			buffer[position++] = (byte) ((value & 0x7F) | 0x80);
+			value >>>= 7;
+		}
+		buffer[position++] = (byte) value;
+		return position;
+	}
+
+	private static int readVarint(byte[] buffer, int[] position) {
+		int value = 0;
+		for (int shift = 0; shift < 32; shift += 7) {
+			if (position[0] >= buffer.length) {
+				throw new IllegalArgumentException("truncated varint at " + position[0]);
+			}
+			byte b = buffer[position[0]++];
+			value |= (b & 0x7F) << shift;
+			if (b >= 0) {
+				if (value < 0) {
+					throw new IllegalArgumentException("varint out of range at " + position[0]);
+				}
+				return value;
+			}
+		}
+		throw new IllegalArgumentException("malformed varint at " + position[0]);
+	}
+}
@@ -0,0 +1,217 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+/**
+ * Allocation-free conversion between epoch days (days since 1970-01-01) and
+ * Persian (Shamsi) dates.
+ * <p>
+ * Persian dates are exchanged as packed ints laid out as
+ * {@code year << 9 | month << 5 | day}, where month is zero based (0 is
+ * Farvardin) like {@link PersianCalendar#getPersianMonth()} and day is one
+ * based. Leap years follow the 33-year arithmetic cycle that
+ * {@link PersianCalendar} has always used, extended proleptically in both
+ * directions. All methods are static, use integer math only and never
+ * allocate, so they are safe to call from any thread.
+ */
+public final class PersianDateConverter {
+
+	/**
+	 * Epoch day of 1 Farvardin 1.
+	 */
+	public static final long PERSIAN_EPOCH_DAY = -492268L;
+
+	/**
+	 * Julian Day Number of 1970-01-01.
+	 */
+	public static final long JULIAN_DAY_OF_EPOCH = 2440588L;
+
+	private static final int DAYS_IN_CYCLE = 12053; // 33 * 365 + 8
+	private static final int YEARS_IN_CYCLE = 33;
+
+	private static final int DAY_BITS = 5;
+	private static final int MONTH_BITS = 4;
+	private static final int DAY_MASK = (1 << DAY_BITS) - 1;
+	private static final int MONTH_MASK = (1 << MONTH_BITS) - 1;
+	private static final int YEAR_SHIFT = DAY_BITS + MONTH_BITS;
+
+	private PersianDateConverter() {
+	}
+
+	/**
+	 * @return packed persian date, month is zero based
+	 */
+	public static int pack(int year, int month, int day) {
+		return (year << YEAR_SHIFT) | (month << DAY_BITS) | day;
+	}
+
+	public static int year(int packed) {
+		return packed >> YEAR_SHIFT;
+	}
+
+	/**
+	 * @return zero based persian month of a packed date
+	 */
+	public static int month(int packed) {
+		return (packed >> DAY_BITS) & MONTH_MASK;
+	}
+
+	public static int day(int packed) {
+		return packed & DAY_MASK;
+	}
+
+	/**
+	 * @return month ordinal (year * 12 + month) of a packed date
+	 */
+	public static int monthOrdinal(int packed) {
+		return year(packed) * 12 + month(packed);
+	}
+
+	public static boolean isLeapYear(int year) {
+		return floorMod(25L * year + 11L, YEARS_IN_CYCLE) < 8;
+	}
+
+	public static int daysInYear(int year) {
+		return isLeapYear(year) ? 366 : 365;
+	}
+
+	/**
+	 * @param month zero based persian month
+	 */
+	public static int daysInMonth(int year, int month) {
+		if (month < 6) {
+			return 31;
+		} else if (month < 11) {
+			return 30;
+		}
+		return isLeapYear(year) ? 30 : 29;
+	}
+
+	/**
+	 * @return epoch day of 1 Farvardin of the given year
+	 */
+	public static long yearStart(int year) {
+		long elapsed = year - 1L;
+		return PERSIAN_EPOCH_DAY + 365L * elapsed + floorDiv(8L * elapsed + 29L, YEARS_IN_CYCLE);
+	}
+
+	/**
+	 * @return number of days between 1 Farvardin and the first day of the
+	 * given zero based month
+	 */
+	public static int daysBeforeMonth(int month) {
+		return month < 6 ? 31 * month : 30 * month + 6;
+	}
+
+	/**
+	 * Converts a persian date to epoch day. Months outside 0..11 are rolled
+	 * into neighbouring years and days past the end of a month overflow into
+	 * the following months.
+	 *
+	 * @param month zero based persian month
+	 */
+	public static long toEpochDay(int year, int month, int day) {
+		int normalizedYear = year + (int) floorDiv(month, 12);
+		int normalizedMonth = (int) floorMod(month, 12);
+		return yearStart(normalizedYear) + daysBeforeMonth(normalizedMonth) + day - 1;
+	}
+
+	public static long toEpochDay(int packed) {
+		return toEpochDay(year(packed), month(packed), day(packed));
+	}
+
+	/**
+	 * @return persian year containing the given epoch day
+	 */
+	public static int yearOf(long epochDay) {
+		return (int) (floorDiv(YEARS_IN_CYCLE * (epochDay - PERSIAN_EPOCH_DAY) + 3L, DAYS_IN_CYCLE) + 1L);
+	}
+
+	/**
+	 * @return packed persian date of the given epoch day
+	 */
+	public static int toPacked(long epochDay) {
+		int year = yearOf(epochDay);
+		return packDayOfYear(year, (int) (epochDay - yearStart(year)));
+	}
+
+	/**
+	 * @param dayOfYear zero based day of year
+	 * @return packed persian date
+	 */
+	public static int packDayOfYear(int year, int dayOfYear) {
+		if (dayOfYear < 186) {
+			return pack(year, dayOfYear / 31, dayOfYear % 31 + 1);
+		}
+		dayOfYear -= 186;
+		return pack(year, dayOfYear / 30 + 6, dayOfYear % 30 + 1);
+	}
+
+	/**
+	 * @param month zero based gregorian month, as in {@link java.util.Calendar#MONTH}
+	 * @return epoch day of the given proleptic gregorian date
+	 */
+	public static long gregorianToEpochDay(int year, int month, int day) {
+		long y = month < 2 ? year - 1L : year;
+		long era = floorDiv(y, 400L);
+		long yearOfEra = y - era * 400L;
+		int shiftedMonth = month < 2 ? month + 10 : month - 2; // March based
+		long dayOfYear = (153 * shiftedMonth + 2) / 5 + day - 1;
+		long dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100 + dayOfYear;
+		return era * 146097L + dayOfEra - 719468L;
+	}
+
+	/**
+	 * @return packed gregorian date ({@code year << 9 | month << 5 | day},
+	 * zero based month) of the given epoch day
+	 */
+	public static int epochDayToGregorian(long epochDay) {
+		long shifted = epochDay + 719468L;
+		long era = floorDiv(shifted, 146097L);
+		int dayOfEra = (int) (shifted - era * 146097L);
+		int yearOfEra = (dayOfEra - dayOfEra / 1460 + dayOfEra / 36524 - dayOfEra / 146096) / 365;
+		int dayOfYear = dayOfEra - (365 * yearOfEra + yearOfEra / 4 - yearOfEra / 100);
+		int shiftedMonth = (5 * dayOfYear + 2) / 153;
+		int day = dayOfYear - (153 * shiftedMonth + 2) / 5 + 1;
+		int month = shiftedMonth < 10 ? shiftedMonth + 2 : shiftedMonth - 10;
+		int year = (int) (yearOfEra + era * 400L) + (month < 2 ? 1 : 0);
+		return pack(year, month, day);
+	}
+
+	/**
+	 * @param month zero based gregorian month
+	 * @return packed persian date of the given gregorian date
+	 */
+	public static int gregorianToPersian(int year, int month, int day) {
+		return toPacked(gregorianToEpochDay(year, month, day));
+	}
+
+	/**
+	 * @param month zero based persian month
+	 * @return packed gregorian date of the given persian date
+	 */
+	public static int persianToGregorian(int year, int month, int day) {
+		return epochDayToGregorian(toEpochDay(year, month, day));
+	}
+
+	/**
+	 * @return day of week of the given epoch day where 0 is Saturday and 6 is
+	 * Friday, matching {@link PersianCalendarConstants#persianWeekDays}
+	 */
+	public static int persianDayOfWeek(long epochDay) {
+		// 1970-01-01 was a Thursday
+		return (int) floorMod(epochDay + 5L, 7L);
+	}
+
+	// Math.floorDiv and Math.floorMod need API 24 on Android
+	static long floorDiv(long x, long y) {
+		long quotient = x / y;
+		if ((x % y != 0) && ((x ^ y) < 0)) {
+			quotient--;
+		}
+		return quotient;
+	}
+
+	static long floorMod(long x, long y) {
+		return x - floorDiv(x, y) * y;
+	}
+
+}
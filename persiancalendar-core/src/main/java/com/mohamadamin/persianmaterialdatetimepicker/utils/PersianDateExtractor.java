@@ -0,0 +1,302 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+
+/**
+ * Streams persian dates out of one column of delimiter separated text (CSV,
+ * TSV, log files) without materializing lines as strings.
+ * <p>
+ * Records end at {@code '\n'} ({@code '\r'} is ignored) and columns are split
+ * at the column separator. The date column is parsed like
+ * {@link PersianDateParser#parsePacked(CharSequence, int, int, char)}: one
+ * based month, Latin, Persian or Arabic-Indic digits, optionally wrapped in
+ * double quotes. Nothing is allocated per record; every record is reported to
+ * a {@link Sink} as a packed date or {@link PersianDateParser#INVALID_DATE}.
+ * <p>
+ * Instances are immutable and may be shared, each extract call keeps its own
+ * scanning state.
+ *
+ * <pre>
+ *  {@code
+ *    new PersianDateExtractor(2, ',', '/').extract(reader, new PersianDateExtractor.Sink() {
+ *        public void accept(long record, long position, int packedDate) {
+ *            ...
+ *        }
+ *    });
+ *  }
+ * </pre>
+ */
+public final class PersianDateExtractor {
+
+	/**
+	 * Receives the date column of every record.
+	 */
+	public interface Sink {
+
+		/**
+		 * @param record
+		 *            zero based record number, counting skipped records
+		 * @param position
+		 *            offset of the first character (or byte for UTF-8 input)
+		 *            of the date column, -1 if the column is empty or missing
+		 * @param packedDate
+		 *            date packed by
+		 *            {@link PersianDateConverter#pack(int, int, int)} or
+		 *            {@link PersianDateParser#INVALID_DATE}
+		 */
+		void accept(long record, long position, int packedDate);
+	}
+
+	private static final int READ_BUFFER_SIZE = 8192;
+
+	private final int column;
+	private final char columnSeparator;
+	private final char dateDelimiter;
+	private final int skippedRecords;
+
+	/**
+	 * @param column
+	 *            zero based index of the date column
+	 * @param columnSeparator
+	 *            separator between columns, e.g. ',' or '\t'
+	 * @param dateDelimiter
+	 *            separator between year, month and day, e.g. '/'
+	 */
+	public PersianDateExtractor(int column, char columnSeparator, char dateDelimiter) {
+		this(column, columnSeparator, dateDelimiter, 0);
+	}
+
+	/**
+	 * @param skippedRecords
+	 *            number of leading records (headers) not reported to the sink
+	 * @see #PersianDateExtractor(int, char, char)
+	 */
+	public PersianDateExtractor(int column, char columnSeparator, char dateDelimiter, int skippedRecords) {
+		if (column < 0 || skippedRecords < 0) {
+			throw new IllegalArgumentException("column and skippedRecords must not be negative");
+		}
+		if (columnSeparator == dateDelimiter) {
+			throw new IllegalArgumentException("column separator and date delimiter must differ");
+		}
+		this.column = column;
+		this.columnSeparator = columnSeparator;
+		this.dateDelimiter = dateDelimiter;
+		this.skippedRecords = skippedRecords;
+	}
+
+	/**
+	 * Reads the reader to its end, it is not closed.
+	 *
+	 * @return number of records read, including skipped ones
+	 */
+	public long extract(Reader reader, Sink sink) throws IOException {
+		Scanner scanner = new Scanner(sink);
+		char[] buffer = new char[READ_BUFFER_SIZE];
+		long position = 0;
+		int read;
+		while ((read = reader.read(buffer, 0, buffer.length)) != -1) {
+			for (int i = 0; i < read; i++) {
+				scanner.accept(buffer[i], position + i);
+			}
+			position += read;
+		}
+		return scanner.finish();
+	}
+
+	/**
+	 * Scans the remaining characters of the buffer and moves its position to
+	 * its limit. Positions are relative to the initial buffer position.
+	 *
+	 * @return number of records read, including skipped ones
+	 */
+	public long extract(CharBuffer buffer, Sink sink) {
+		Scanner scanner = new Scanner(sink);
+		int start = buffer.position();
+		int limit = buffer.limit();
+		for (int i = start; i < limit; i++) {
+			scanner.accept(buffer.get(i), i - start);
+		}
+		buffer.position(limit);
+		return scanner.finish();
+	}
+
+	/**
+	 * Scans the remaining bytes of a UTF-8 buffer, e.g. a memory mapped file,
+	 * and moves its position to its limit. Positions are byte offsets relative
+	 * to the initial buffer position.
+	 *
+	 * @return number of records read, including skipped ones
+	 */
+	public long extractUtf8(ByteBuffer buffer, Sink sink) {
+		Scanner scanner = new Scanner(sink);
+		int start = buffer.position();
+		int limit = buffer.limit();
+		int i = start;
+		while (i < limit) {
+			int b = buffer.get(i) & 0xff;
+			char c;
+			int length;
+			if (b < 0x80) {
+				c = (char) b;
+				length = 1;
+			} else if (b >= 0xc0 && b < 0xe0 && isContinuation(buffer, i + 1, limit)) {
+				c = (char) (((b & 0x1f) << 6) | (buffer.get(i + 1) & 0x3f));
+				length = 2;
+			} else if (b >= 0xe0 && b < 0xf0 && isContinuation(buffer, i + 1, limit)
+					&& isContinuation(buffer, i + 2, limit)) {
+				c = (char) (((b & 0x0f) << 12) | ((buffer.get(i + 1) & 0x3f) << 6) | (buffer.get(i + 2) & 0x3f));
+				length = 3;
+			} else {
+				// 4 byte sequences, stray continuation bytes, truncated and
+				// malformed input are never part of a date. A malformed
+				// sequence only replaces its lead byte, so a newline or
+				// separator right after it still ends the record or column.
+				c = '\ufffd';
+				length = b >= 0xf0 && isContinuation(buffer, i + 1, limit) && isContinuation(buffer, i + 2, limit)
+						&& isContinuation(buffer, i + 3, limit) ? 4 : 1;
+			}
+			scanner.accept(c, i - start);
+			i += length;
+		}
+		buffer.position(limit);
+		return scanner.finish();
+	}
+
+	/**
+	 * @return whether the byte at index is a UTF-8 continuation byte,
+	 *         {@code 10xxxxxx}
+	 */
+	private static boolean isContinuation(ByteBuffer buffer, int index, int limit) {
+		return index < limit && (buffer.get(index) & 0xc0) == 0x80;
+	}
+
+	/**
+	 * Incremental scanning state of a single extract call.
+	 */
+	private final class Scanner {
+
+		private final Sink sink;
+
+		private long record;
+		private boolean recordEmpty = true;
+		private int currentColumn;
+
+		private long datePosition = -1;
+		private boolean quoted;
+		private boolean closed;
+		private boolean invalid;
+		private int field;
+		private int fieldDigits;
+		private int year;
+		private int month;
+		private int day;
+
+		Scanner(Sink sink) {
+			this.sink = sink;
+		}
+
+		void accept(char c, long position) {
+			if (c == '\n') {
+				endRecord();
+				return;
+			}
+			if (c == '\r') {
+				return;
+			}
+			recordEmpty = false;
+			if (record < skippedRecords) {
+				return;
+			}
+			if (c == columnSeparator) {
+				if (currentColumn == column) {
+					emitDate();
+				}
+				currentColumn++;
+				return;
+			}
+			if (currentColumn != column || invalid) {
+				return;
+			}
+
+			if (datePosition < 0) {
+				datePosition = position;
+				if (c == '"') {
+					quoted = true;
+					return;
+				}
+			}
+			if (closed) {
+				invalid = true;
+			} else if (c == '"') {
+				if (quoted) {
+					closed = true;
+				} else {
+					invalid = true;
+				}
+			} else if (c == dateDelimiter) {
+				if (fieldDigits == 0 || field == 2) {
+					invalid = true;
+				}
+				field++;
+				fieldDigits = 0;
+			} else {
+				accumulate(DigitTranscoder.digitValue(c));
+			}
+		}
+
+		private void accumulate(int digit) {
+			if (digit < 0) {
+				invalid = true;
+				return;
+			}
+			fieldDigits++;
+			if (field == 0) {
+				year = year * 10 + digit;
+				invalid = year > PersianDateParser.MAX_YEAR;
+			} else if (field == 1) {
+				month = month * 10 + digit;
+				invalid = month > 12;
+			} else {
+				day = day * 10 + digit;
+				invalid = day > 31;
+			}
+		}
+
+		private void emitDate() {
+			int packed = PersianDateParser.INVALID_DATE;
+			if (!invalid && field == 2 && fieldDigits > 0 && quoted == closed
+					&& PersianDateParser.isValidPersianDate(year, month, day)) {
+				packed = PersianDateConverter.pack(year, month - 1, day);
+			}
+			sink.accept(record, datePosition, packed);
+			datePosition = -1;
+			quoted = closed = invalid = false;
+			field = fieldDigits = year = month = day = 0;
+		}
+
+		private void endRecord() {
+			// blank records are reported too, their date column is missing
+			if (record >= skippedRecords) {
+				if (currentColumn == column) {
+					emitDate();
+				} else if (currentColumn < column) {
+					sink.accept(record, -1, PersianDateParser.INVALID_DATE);
+				}
+			}
+			record++;
+			recordEmpty = true;
+			currentColumn = 0;
+		}
+
+		long finish() {
+			if (!recordEmpty) {
+				endRecord();
+			}
+			return record;
+		}
+	}
+
+}
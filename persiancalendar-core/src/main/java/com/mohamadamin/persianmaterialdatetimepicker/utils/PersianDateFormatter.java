@@ -0,0 +1,311 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.io.IOException;
+import java.util.Calendar;
+import java.util.TimeZone;
+
+/**
+ * Immutable, thread-safe formatter for persian dates.
+ * <p>
+ * The pattern is compiled once into a list of instructions; formatting then
+ * appends straight into a caller supplied {@link StringBuilder} or
+ * {@link Appendable} without intermediate strings, so one instance can be
+ * shared by every thread of an application. Supported pattern letters:
+ *
+ * <pre>
+ *  yyyy  year              1397
+ *  yy    two digit year    97
+ *  MM    month, padded     04
+ *  M     month             4
+ *  MMMM  month name        تیر
+ *  dd    day, padded       01
+ *  d     day               1
+ *  EEEE  week day name     جمعه
+ *  HH    hour of day, padded
+ *  mm    minute, padded
+ *  ss    second, padded
+ * </pre>
+ *
+ * Other ASCII letters are reserved, text inside single quotes is copied as
+ * is and {@code ''} writes a single quote.
+ *
+ * <pre>
+ *  {@code
+ *    PersianDateFormatter formatter =
+ *        PersianDateFormatter.ofPattern("yyyy/MM/dd EEEE HH:mm");
+ *    formatter.formatTo(persianCalendar, stringBuilder);
+ *  }
+ * </pre>
+ */
+public final class PersianDateFormatter {
+
+	/**
+	 * Same layout as {@link PersianCalendar#getPersianShortDate()} with a one
+	 * based month.
+	 */
+	public static final PersianDateFormatter SHORT_DATE = ofPattern("yyyy/MM/dd");
+
+	/**
+	 * Layout of {@link PersianCalendar#getPersianLongDate()}.
+	 */
+	public static final PersianDateFormatter LONG_DATE = ofPattern("EEEE  dd  MMMM  yyyy");
+
+	private static final int FIELD_LITERAL = 0;
+	private static final int FIELD_YEAR = 1;
+	private static final int FIELD_TWO_DIGIT_YEAR = 2;
+	private static final int FIELD_MONTH = 3;
+	private static final int FIELD_MONTH_NAME = 4;
+	private static final int FIELD_DAY = 5;
+	private static final int FIELD_WEEK_DAY_NAME = 6;
+	private static final int FIELD_HOUR = 7;
+	private static final int FIELD_MINUTE = 8;
+	private static final int FIELD_SECOND = 9;
+
+	private final String pattern;
+	// each instruction is field << 16 | argument, the argument being the
+	// minimum width of numbers or the index of a literal
+	private final int[] instructions;
+	private final String[] literals;
+	private final char zeroDigit;
+
+	private PersianDateFormatter(String pattern, int[] instructions, String[] literals, char zeroDigit) {
+		this.pattern = pattern;
+		this.instructions = instructions;
+		this.literals = literals;
+		this.zeroDigit = zeroDigit;
+	}
+
+	/**
+	 * Compiles the given pattern.
+	 *
+	 * @exception IllegalArgumentException
+	 *                if the pattern uses an unknown letter or has an unclosed
+	 *                quote
+	 */
+	public static PersianDateFormatter ofPattern(String pattern) {
+		int length = pattern.length();
+		int[] instructions = new int[length];
+		String[] literals = new String[length];
+		int instructionCount = 0;
+		int literalCount = 0;
+		StringBuilder literal = new StringBuilder();
+
+		int i = 0;
+		while (i < length) {
+			char c = pattern.charAt(i);
+			if (c == '\'') {
+				int end = i + 1;
+				if (end < length && pattern.charAt(end) == '\'') {
+					literal.append('\'');
+					i = end + 1;
+					continue;
+				}
+				while (true) {
+					if (end >= length) {
+						throw new IllegalArgumentException("unclosed quote in pattern: " + pattern);
+					}
+					if (pattern.charAt(end) == '\'') {
+						if (end + 1 < length && pattern.charAt(end + 1) == '\'') {
+							literal.append('\'');
+							end += 2;
+							continue;
+						}
+						break;
+					}
+					literal.append(pattern.charAt(end++));
+				}
+				i = end + 1;
+				continue;
+			}
+			if ((c < 'a' || c > 'z') && (c < 'A' || c > 'Z')) {
+				literal.append(c);
+				i++;
+				continue;
+			}
+
+			int count = 1;
+			while (i + count < length && pattern.charAt(i + count) == c) {
+				count++;
+			}
+			if (literal.length() > 0) {
+				literals[literalCount] = literal.toString();
+				instructions[instructionCount++] = FIELD_LITERAL << 16 | literalCount++;
+				literal.setLength(0);
+			}
+			instructions[instructionCount++] = compileField(c, count, pattern);
+			i += count;
+		}
+		if (literal.length() > 0) {
+			literals[literalCount] = literal.toString();
+			instructions[instructionCount++] = FIELD_LITERAL << 16 | literalCount++;
+		}
+
+		int[] compiled = new int[instructionCount];
+		System.arraycopy(instructions, 0, compiled, 0, instructionCount);
+		String[] compiledLiterals = new String[literalCount];
+		System.arraycopy(literals, 0, compiledLiterals, 0, literalCount);
+		return new PersianDateFormatter(pattern, compiled, compiledLiterals, DigitTranscoder.LATIN_ZERO);
+	}
+
+	private static int compileField(char letter, int count, String pattern) {
+		switch (letter) {
+			case 'y':
+				return count == 2 ? FIELD_TWO_DIGIT_YEAR << 16 | 2 : FIELD_YEAR << 16 | count;
+			case 'M':
+				return count >= 3 ? FIELD_MONTH_NAME << 16 : FIELD_MONTH << 16 | count;
+			case 'd':
+				return FIELD_DAY << 16 | count;
+			case 'E':
+				return FIELD_WEEK_DAY_NAME << 16;
+			case 'H':
+				return FIELD_HOUR << 16 | count;
+			case 'm':
+				return FIELD_MINUTE << 16 | count;
+			case 's':
+				return FIELD_SECOND << 16 | count;
+			default:
+				throw new IllegalArgumentException("unknown pattern letter '" + letter + "' in " + pattern);
+		}
+	}
+
+	/**
+	 * @return a formatter writing persian (true) or latin (false) digits,
+	 * latin being the default
+	 */
+	public PersianDateFormatter withPersianDigits(boolean persianDigits) {
+		char zero = persianDigits ? DigitTranscoder.PERSIAN_ZERO : DigitTranscoder.LATIN_ZERO;
+		if (zero == zeroDigit) {
+			return this;
+		}
+		return new PersianDateFormatter(pattern, instructions, literals, zero);
+	}
+
+	public String getPattern() {
+		return pattern;
+	}
+
+	public String format(PersianCalendar calendar) {
+		StringBuilder builder = new StringBuilder(pattern.length() + 16);
+		formatTo(calendar, builder);
+		return builder.toString();
+	}
+
+	public String format(PersianDate date) {
+		StringBuilder builder = new StringBuilder(pattern.length() + 16);
+		formatTo(date, builder);
+		return builder.toString();
+	}
+
+	public void formatTo(PersianCalendar calendar, StringBuilder builder) {
+		try {
+			formatTo(calendar, (Appendable) builder);
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	public void formatTo(PersianCalendar calendar, Appendable appendable) throws IOException {
+		print(appendable, calendar.getPersianYear(), calendar.getPersianMonth(), calendar.getPersianDay(),
+				calendar.get(Calendar.DAY_OF_WEEK) % 7, calendar.get(Calendar.HOUR_OF_DAY),
+				calendar.get(Calendar.MINUTE), calendar.get(Calendar.SECOND));
+	}
+
+	/**
+	 * Formats a date, time fields print as zero.
+	 */
+	public void formatTo(PersianDate date, StringBuilder builder) {
+		try {
+			formatTo(date, (Appendable) builder);
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	/**
+	 * Formats a date, time fields print as zero.
+	 */
+	public void formatTo(PersianDate date, Appendable appendable) throws IOException {
+		print(appendable, date.getYear(), date.getMonth(), date.getDay(), date.getDayOfWeek(), 0, 0, 0);
+	}
+
+	/**
+	 * Formats an instant in the given zone without going through a
+	 * {@link PersianCalendar}.
+	 */
+	public void formatTo(long epochMillis, TimeZone zone, StringBuilder builder) {
+		try {
+			formatTo(epochMillis, zone, (Appendable) builder);
+		} catch (IOException e) {
+			throw new AssertionError(e);
+		}
+	}
+
+	/**
+	 * Formats an instant in the given zone without going through a
+	 * {@link PersianCalendar}.
+	 */
+	public void formatTo(long epochMillis, TimeZone zone, Appendable appendable) throws IOException {
+		long localMillis = epochMillis + zone.getOffset(epochMillis);
+		long epochDay = PersianDateConverter.floorDiv(localMillis, PersianCalendarConstants.MILLIS_OF_A_DAY);
+		int secondOfDay = (int) ((localMillis - epochDay * PersianCalendarConstants.MILLIS_OF_A_DAY) / 1000L);
+		int packed = PersianDateConverter.toPacked(epochDay);
+		print(appendable, PersianDateConverter.year(packed), PersianDateConverter.month(packed),
+				PersianDateConverter.day(packed), PersianDateConverter.persianDayOfWeek(epochDay),
+				secondOfDay / 3600, secondOfDay / 60 % 60, secondOfDay % 60);
+	}
+
+	/**
+	 * @param month
+	 *            zero based persian month
+	 * @param dayOfWeek
+	 *            0 for Saturday to 6 for Friday
+	 */
+	private void print(Appendable out, int year, int month, int day, int dayOfWeek, int hour, int minute,
+			int second) throws IOException {
+		for (int instruction : instructions) {
+			int argument = instruction & 0xffff;
+			switch (instruction >>> 16) {
+				case FIELD_LITERAL:
+					out.append(literals[argument]);
+					break;
+				case FIELD_YEAR:
+					appendNumber(out, year, argument);
+					break;
+				case FIELD_TWO_DIGIT_YEAR:
+					appendNumber(out, (int) PersianDateConverter.floorMod(year, 100), 2);
+					break;
+				case FIELD_MONTH:
+					appendNumber(out, month + 1, argument);
+					break;
+				case FIELD_MONTH_NAME:
+					out.append(PersianCalendarConstants.persianMonthNames[month]);
+					break;
+				case FIELD_DAY:
+					appendNumber(out, day, argument);
+					break;
+				case FIELD_WEEK_DAY_NAME:
+					out.append(PersianCalendarConstants.persianWeekDays[dayOfWeek]);
+					break;
+				case FIELD_HOUR:
+					appendNumber(out, hour, argument);
+					break;
+				case FIELD_MINUTE:
+					appendNumber(out, minute, argument);
+					break;
+				default:
+					appendNumber(out, second, argument);
+					break;
+			}
+		}
+	}
+
+	private void appendNumber(Appendable out, int value, int minWidth) throws IOException {
+		DigitTranscoder.appendNumber(out, value, minWidth, zeroDigit);
+	}
+
+	@Override
+	public String toString() {
+		return pattern;
+	}
+
+}
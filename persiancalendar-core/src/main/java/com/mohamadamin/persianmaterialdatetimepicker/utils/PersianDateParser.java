@@ -41,6 +41,14 @@ package com.mohamadamin.persianmaterialdatetimepicker.utils;
  */
 public class PersianDateParser {
 
+	/**
+	 * Returned by {@link #parsePacked(CharSequence, int, int, char)} when the
+	 * text is not a valid persian date.
+	 */
+	public static final int INVALID_DATE = -1;
+
+	static final int MAX_YEAR = 999999;
+
 	private String dateString;
 	private String delimiter = "/";
 
@@ -110,29 +118,109 @@ public class PersianDateParser {
 		checkPersianDateValidation(year, month, day);
 
 		PersianCalendar pCal = new PersianCalendar();
-		pCal.setPersianDate(year, month, day);
+		pCal.setPersianDate(year, month - 1, day);
 
 		return pCal;
 	}
 
 	/**
-	 * validate the given date
+	 * Parses {@code year/month/day} with a one based month, see
+	 * {@link #parsePacked(CharSequence, int, int, char)}.
+	 * 
+	 * @param text
+	 * @return packed date or {@link #INVALID_DATE}
+	 */
+	public static int parsePacked(CharSequence text) {
+		return parsePacked(text, 0, text.length(), '/');
+	}
+
+	/**
+	 * Scans {@code year[delimiter]month[delimiter]day} with a one based month
+	 * between start (inclusive) and end (exclusive) of the given text. Latin,
+	 * Persian and Arabic-Indic digits are accepted and may be mixed. Unlike
+	 * {@link #getPersianDate()} nothing is allocated and malformed input is
+	 * reported by returning {@link #INVALID_DATE} instead of throwing.
+	 * 
+	 * @param text
+	 * @param start
+	 * @param end
+	 * @param delimiter
+	 * @return date packed by {@link PersianDateConverter#pack(int, int, int)}
+	 *         (zero based month) or {@link #INVALID_DATE}
+	 */
+	public static int parsePacked(CharSequence text, int start, int end, char delimiter) {
+		int year = 0;
+		int month = 0;
+		int day = 0;
+		int field = 0;
+		int fieldDigits = 0;
+		for (int i = start; i < end; i++) {
+			char c = text.charAt(i);
+			if (c == delimiter) {
+				if (fieldDigits == 0 || field == 2) {
+					return INVALID_DATE;
+				}
+				field++;
+				fieldDigits = 0;
+				continue;
+			}
+			int digit = DigitTranscoder.digitValue(c);
+			if (digit < 0) {
+				return INVALID_DATE;
+			}
+			fieldDigits++;
+			if (field == 0) {
+				year = year * 10 + digit;
+				if (year > MAX_YEAR) {
+					return INVALID_DATE;
+				}
+			} else if (field == 1) {
+				month = month * 10 + digit;
+				if (month > 12) {
+					return INVALID_DATE;
+				}
+			} else {
+				day = day * 10 + digit;
+				if (day > 31) {
+					return INVALID_DATE;
+				}
+			}
+		}
+		if (field != 2 || fieldDigits == 0 || !isValidPersianDate(year, month, day)) {
+			return INVALID_DATE;
+		}
+		return PersianDateConverter.pack(year, month - 1, day);
+	}
+
+	/**
+	 * @param month
+	 *            one based month
+	 */
+	static boolean isValidPersianDate(int year, int month, int day) {
+		return year >= 1 && month >= 1 && month <= 12 && day >= 1 && day <= 31
+				&& !(month > 6 && day == 31)
+				&& !(month == 12 && day == 30 && !PersianCalendarUtils.isPersianLeapYear(year));
+	}
+
+	/**
+	 * validate the given date, the rules are those of
+	 * {@link #isValidPersianDate(int, int, int)}, the checks here only pick
+	 * the message
 	 * 
 	 * @param year
 	 * @param month
 	 * @param day
 	 */
 	private void checkPersianDateValidation(int year, int month, int day) {
+		if (isValidPersianDate(year, month, day))
+			return;
 		if (year < 1)
 			throw new RuntimeException("year is not valid");
 		if (month < 1 || month > 12)
 			throw new RuntimeException("month is not valid");
-		if (day < 1 || day > 31)
-			throw new RuntimeException("day is not valid");
-		if (month > 6 && day == 31)
-			throw new RuntimeException("day is not valid");
-		if (month == 12 && day == 30 && !PersianCalendarUtils.isPersianLeapYear(year))
+		if (month == 12 && day == 30)
 			throw new RuntimeException("day is not valid " + year + " is not a leap year");
+		throw new RuntimeException("day is not valid");
 	}
 
 	/**
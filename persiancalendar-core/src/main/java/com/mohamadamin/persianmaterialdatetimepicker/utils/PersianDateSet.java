@@ -0,0 +1,196 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+
+/**
+ * Mutable set of persian days kept as a sorted array of dates packed by
+ * {@link PersianDateConverter#pack(int, int, int)}. Packed dates sort in
+ * calendar order, so lookups and toggles are binary searches and the days of
+ * a month are one contiguous run, read as a bit mask by
+ * {@link #getMonthMask(int, int)} without allocating.
+ * <p>
+ * Not thread safe.
+ */
+public final class PersianDateSet {
+
+	private static final int[] EMPTY = new int[0];
+
+	private int[] dates = EMPTY;
+	private int size;
+
+	public PersianDateSet() {
+	}
+
+	/**
+	 * @param days
+	 *            days in any order, duplicates and time of day are ignored
+	 */
+	public static PersianDateSet of(Collection<PersianCalendar> days) {
+		PersianDateSet set = new PersianDateSet();
+		set.set(days);
+		return set;
+	}
+
+	/**
+	 * Replaces the content of this set.
+	 *
+	 * @param days
+	 *            days in any order, duplicates and time of day are ignored
+	 */
+	public void set(Collection<PersianCalendar> days) {
+		int[] packed = new int[days.size()];
+		int length = 0;
+		for (PersianCalendar day : days) {
+			packed[length++] = PersianDateConverter.pack(day.getPersianYear(), day.getPersianMonth(),
+					day.getPersianDay());
+		}
+		setPacked(packed, 0, length);
+	}
+
+	/**
+	 * Replaces the content of this set.
+	 *
+	 * @param packedDates
+	 *            packed dates in any order, duplicates are ignored
+	 */
+	public void setPacked(int[] packedDates, int offset, int length) {
+		int[] sorted = Arrays.copyOfRange(packedDates, offset, offset + length);
+		Arrays.sort(sorted);
+		int distinct = 0;
+		for (int i = 0; i < sorted.length; i++) {
+			if (distinct == 0 || sorted[distinct - 1] != sorted[i]) {
+				sorted[distinct++] = sorted[i];
+			}
+		}
+		dates = sorted;
+		size = distinct;
+	}
+
+	public int size() {
+		return size;
+	}
+
+	public boolean isEmpty() {
+		return size == 0;
+	}
+
+	/**
+	 * @return packed date at the given index, dates being in calendar order
+	 */
+	public int get(int index) {
+		if (index < 0 || index >= size) {
+			throw new IndexOutOfBoundsException("index: " + index + ", size: " + size);
+		}
+		return dates[index];
+	}
+
+	public boolean contains(int packedDate) {
+		return Arrays.binarySearch(dates, 0, size, packedDate) >= 0;
+	}
+
+	/**
+	 * @return true if the date was not in the set
+	 */
+	public boolean add(int packedDate) {
+		int index = Arrays.binarySearch(dates, 0, size, packedDate);
+		if (index >= 0) {
+			return false;
+		}
+		insert(-index - 1, packedDate);
+		return true;
+	}
+
+	/**
+	 * @return true if the date was in the set
+	 */
+	public boolean remove(int packedDate) {
+		int index = Arrays.binarySearch(dates, 0, size, packedDate);
+		if (index < 0) {
+			return false;
+		}
+		System.arraycopy(dates, index + 1, dates, index, size - index - 1);
+		size--;
+		return true;
+	}
+
+	/**
+	 * Adds the date if it is not in the set, removes it otherwise.
+	 *
+	 * @return true if the date is in the set afterwards
+	 */
+	public boolean toggle(int packedDate) {
+		int index = Arrays.binarySearch(dates, 0, size, packedDate);
+		if (index >= 0) {
+			System.arraycopy(dates, index + 1, dates, index, size - index - 1);
+			size--;
+			return false;
+		}
+		insert(-index - 1, packedDate);
+		return true;
+	}
+
+	public void clear() {
+		size = 0;
+	}
+
+	/**
+	 * @param month
+	 *            zero based persian month
+	 * @return mask of the days of the given month in the set, bit {@code d}
+	 *         standing for day {@code d}
+	 */
+	public int getMonthMask(int year, int month) {
+		int first = PersianDateConverter.pack(year, month, 0);
+		// days take the low 5 bits, so a month spans 32 packed values
+		int end = first + 32;
+		int index = Arrays.binarySearch(dates, 0, size, first);
+		if (index < 0) {
+			index = -index - 1;
+		}
+		int mask = 0;
+		for (; index < size && dates[index] < end; index++) {
+			mask |= 1 << PersianDateConverter.day(dates[index]);
+		}
+		return mask;
+	}
+
+	/**
+	 * @return the packed dates in calendar order
+	 */
+	public int[] toArray() {
+		return Arrays.copyOf(dates, size);
+	}
+
+	/**
+	 * @return new calendars for the dates, in calendar order
+	 */
+	public ArrayList<PersianCalendar> toPersianCalendars() {
+		ArrayList<PersianCalendar> calendars = new ArrayList<>(size);
+		for (int i = 0; i < size; i++) {
+			calendars.add(toPersianCalendar(dates[i]));
+		}
+		return calendars;
+	}
+
+	/**
+	 * @return a new calendar set to the packed date
+	 */
+	public static PersianCalendar toPersianCalendar(int packedDate) {
+		PersianCalendar calendar = new PersianCalendar();
+		calendar.setPersianDate(PersianDateConverter.year(packedDate), PersianDateConverter.month(packedDate),
+				PersianDateConverter.day(packedDate));
+		return calendar;
+	}
+
+	private void insert(int index, int packedDate) {
+		if (size == dates.length) {
+			dates = Arrays.copyOf(dates, Math.max(8, size * 2));
+		}
+		System.arraycopy(dates, index, dates, index + 1, size - index);
+		dates[index] = packedDate;
+		size++;
+	}
+
+}
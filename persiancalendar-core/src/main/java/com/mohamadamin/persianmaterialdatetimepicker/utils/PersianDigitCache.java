@@ -0,0 +1,77 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+/**
+ * Process wide cache of numbers written in persian digits, for the labels
+ * drawn over and over by the pickers: days, hours and minutes (0 to 59) and
+ * years from {@link #FIRST_YEAR} to {@link #LAST_YEAR}.
+ * <p>
+ * Strings are built the first time they are asked for and then returned as
+ * the same instance, other numbers are built on every call.
+ * <p>
+ * The arrays are filled without locking or volatile. A reader that sees a
+ * non null slot may see it through a data race, which is still safe for
+ * String: its fields are final, so the final field rule of the Java memory
+ * model guarantees the chars are visible to any thread that reads the
+ * reference. A reader that sees null builds an equal string and stores it,
+ * so two threads may briefly hold different instances of the same text;
+ * callers compare labels with equals, never by identity.
+ */
+public final class PersianDigitCache {
+
+	public static final int SMALL_LIMIT = 60;
+	public static final int FIRST_YEAR = MonthGridTable.FIRST_YEAR;
+	public static final int LAST_YEAR = MonthGridTable.LAST_YEAR;
+
+	private static final String[] small = new String[SMALL_LIMIT];
+	private static final String[] smallPadded = new String[SMALL_LIMIT];
+	private static final String[] years = new String[LAST_YEAR - FIRST_YEAR + 1];
+
+	private PersianDigitCache() {
+	}
+
+	/**
+	 * @return value in persian digits, e.g. {@code "۱۳۹۷"}
+	 */
+	public static String get(int value) {
+		if (value >= 0 && value < SMALL_LIMIT) {
+			String text = small[value];
+			if (text == null) {
+				text = build(value, 1);
+				small[value] = text;
+			}
+			return text;
+		}
+		if (value >= FIRST_YEAR && value <= LAST_YEAR) {
+			int index = value - FIRST_YEAR;
+			String text = years[index];
+			if (text == null) {
+				text = build(value, 1);
+				years[index] = text;
+			}
+			return text;
+		}
+		return build(value, 1);
+	}
+
+	/**
+	 * @return value in persian digits padded to two digits, e.g.
+	 * {@code "۰۵"}
+	 */
+	public static String getTwoDigits(int value) {
+		if (value >= 0 && value < SMALL_LIMIT) {
+			String text = smallPadded[value];
+			if (text == null) {
+				text = build(value, 2);
+				smallPadded[value] = text;
+			}
+			return text;
+		}
+		return build(value, 2);
+	}
+
+	private static String build(int value, int minWidth) {
+		return DigitTranscoder.appendNumber(new StringBuilder(8), value, minWidth, DigitTranscoder.PERSIAN_ZERO)
+				.toString();
+	}
+
+}
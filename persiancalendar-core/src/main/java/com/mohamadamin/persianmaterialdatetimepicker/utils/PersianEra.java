@@ -0,0 +1,45 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.time.DateTimeException;
+import java.time.chrono.Era;
+
+/**
+ * Eras of the {@link PersianChronology}, anno persico starting at year 1.
+ * Takes the field accessors of {@link Era} from its Java 8 default methods,
+ * so like the chronology it needs API 26 on Android.
+ */
+public enum PersianEra implements Era {
+
+	/**
+	 * Years before 1 Farvardin 1, proleptic year 0 being year of era 1.
+	 */
+	BEFORE_AP,
+
+	/**
+	 * Years from 1 Farvardin 1 (22 March 622 gregorian) on.
+	 */
+	AP;
+
+	/**
+	 * @param persianEra
+	 *            0 for {@link #BEFORE_AP}, 1 for {@link #AP}
+	 * @exception DateTimeException
+	 *                if the value is not a valid era
+	 */
+	public static PersianEra of(int persianEra) {
+		switch (persianEra) {
+			case 0:
+				return BEFORE_AP;
+			case 1:
+				return AP;
+			default:
+				throw new DateTimeException("Invalid era: " + persianEra);
+		}
+	}
+
+	@Override
+	public int getValue() {
+		return ordinal();
+	}
+
+}
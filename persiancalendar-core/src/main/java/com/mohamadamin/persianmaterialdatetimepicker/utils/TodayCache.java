@@ -0,0 +1,47 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import java.util.TimeZone;
+
+/**
+ * Today's persian date in the default time zone, packed by
+ * {@link PersianDateConverter#pack(int, int, int)}, for views that check
+ * every bind whether they show today.
+ * <p>
+ * The date is converted once and kept until the clock leaves the local day
+ * it was computed for, so the common call is a clock read and two compares.
+ * A change of the default time zone is picked up at the next day change.
+ * Instances are not thread safe, keep one per adapter or per thread.
+ */
+public final class TodayCache {
+
+	// UTC range [dayStart, dayEnd) of the cached local day, empty at first
+	private long dayStart;
+	private long dayEnd;
+	private int today;
+
+	/**
+	 * @return today's packed persian date
+	 */
+	public int get() {
+		return get(System.currentTimeMillis());
+	}
+
+	/**
+	 * @param now
+	 *            current time in epoch milliseconds
+	 * @return packed persian date of the local day containing now
+	 */
+	public int get(long now) {
+		if (now < dayStart || now >= dayEnd) {
+			TimeZone zone = TimeZone.getDefault();
+			long epochDay = PersianDateConverter.floorDiv(now + zone.getOffset(now),
+					PersianCalendarConstants.MILLIS_OF_A_DAY);
+			long localStart = epochDay * PersianCalendarConstants.MILLIS_OF_A_DAY;
+			long localEnd = localStart + PersianCalendarConstants.MILLIS_OF_A_DAY;
+			today = PersianDateConverter.toPacked(epochDay);
+			dayStart = localStart - zone.getOffset(localStart - zone.getOffset(now));
+			dayEnd = localEnd - zone.getOffset(localEnd - zone.getOffset(now));
+		}
+		return today;
+	}
+}
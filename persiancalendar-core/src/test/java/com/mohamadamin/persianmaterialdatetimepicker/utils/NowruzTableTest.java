@@ -0,0 +1,209 @@
+package com.mohamadamin.persianmaterialdatetimepicker.utils;
+
+import static org.junit.Assert.assertEquals;
+
+import java.time.LocalDate;
+
+import org.junit.Test;
+
+/**
+ * Checks {@link NowruzTable} against the two converters the library used
+ * before it, copied here verbatim as oracles:
+ * <ul>
+ * <li>the 33-year cycle of the old {@code PersianCalendar} (gregorianToJalali
+ * and persianToGregorian), which produced every date the pickers showed. Its
+ * int math only holds from its own epoch, 1 Farvardin 979 (1600 gregorian),
+ * on.</li>
+ * <li>the 2820-year cycle of the old {@code PersianCalendarUtils}, which only
+ * follows the 33-year cycle for 1244 to 1402. It calls 1403 a common year,
+ * while Esfand 1403 had 30 days.</li>
+ * </ul>
+ * Gregorian dates are proleptic, as in {@link LocalDate}.
+ */
+public class NowruzTableTest {
+
+	private static final int BASELINE_FIRST_YEAR = 979;
+	private static final int CYCLE_2820_FIRST_YEAR = 1244;
+	private static final int CYCLE_2820_LAST_YEAR = 1402;
+
+	private final NowruzTable table = NowruzTable.getDefault();
+
+	@Test
+	public void yearStartsMatchBaselineConverter() {
+		for (int year = BASELINE_FIRST_YEAR; year <= table.getLastYear(); year++) {
+			LocalDate nowruz = LocalDate.ofEpochDay(table.yearStart(year));
+			assertEquals("nowruz " + year, gregorianDate(nowruz), BaselineConverter.persianToGregorian(year, 0, 1));
+		}
+	}
+
+	@Test
+	public void leapYearsMatchBaselineConverter() {
+		for (int year = BASELINE_FIRST_YEAR; year <= table.getLastYear(); year++) {
+			LocalDate lastDay = LocalDate.ofEpochDay(table.yearStart(year + 1) - 1);
+			int[] persian = BaselineConverter.gregorianToPersian(lastDay.getYear(), lastDay.getMonthValue() - 1,
+					lastDay.getDayOfMonth());
+			assertEquals("last day of " + year, persianDate(year, 11, table.isLeapYear(year) ? 30 : 29),
+					persianDate(persian[0], persian[1], persian[2]));
+			assertEquals("length of " + year, table.isLeapYear(year) ? 366 : 365, table.daysInYear(year));
+		}
+	}
+
+	@Test
+	public void roundTripsMatchBaselineConverter() {
+		long first = table.yearStart(BASELINE_FIRST_YEAR);
+		long end = table.yearStart(table.getLastYear() + 1);
+		for (long epochDay = first; epochDay < end; epochDay++) {
+			LocalDate gregorian = LocalDate.ofEpochDay(epochDay);
+			int[] expected = BaselineConverter.gregorianToPersian(gregorian.getYear(), gregorian.getMonthValue() - 1,
+					gregorian.getDayOfMonth());
+			int packed = table.toPacked(epochDay);
+			assertEquals("epoch day " + epochDay, persianDate(expected[0], expected[1], expected[2]),
+					persianDate(PersianDateConverter.year(packed), PersianDateConverter.month(packed),
+							PersianDateConverter.day(packed)));
+			assertEquals("epoch day " + epochDay, epochDay, table.toEpochDay(expected[0], expected[1], expected[2]));
+
+			long julian = PersianCalendarUtils.julianToPersian(epochDay + PersianDateConverter.JULIAN_DAY_OF_EPOCH);
+			assertEquals("julian day of " + epochDay, persianDate(expected[0], expected[1], expected[2]),
+					persianDate((int) (julian >> 16), (int) (julian >> 8) & 0xFF, (int) julian & 0xFF));
+		}
+	}
+
+	@Test
+	public void matches2820CycleWhereBothCyclesAgree() {
+		for (int year = CYCLE_2820_FIRST_YEAR; year <= CYCLE_2820_LAST_YEAR; year++) {
+			assertEquals("nowruz " + year, Cycle2820Converter.persianToJulian(year, 0, 1),
+					table.yearStart(year) + PersianDateConverter.JULIAN_DAY_OF_EPOCH);
+			assertEquals("leap " + year, Cycle2820Converter.isPersianLeapYear(year), table.isLeapYear(year));
+			for (int month = 0; month < 12; month++) {
+				long julian = Cycle2820Converter.persianToJulian(year, month, 1);
+				assertEquals(year + "/" + month, (year << 16) | (month << 8) | 1,
+						Cycle2820Converter.julianToPersian(julian));
+				assertEquals(year + "/" + month, julian, PersianCalendarUtils.persianToJulian(year, month, 1));
+			}
+		}
+	}
+
+	@Test
+	public void esfand1403HasThirtyDays() {
+		assertEquals(true, table.isLeapYear(1403));
+		assertEquals(false, Cycle2820Converter.isPersianLeapYear(1403));
+		assertEquals(LocalDate.of(2025, 3, 21), LocalDate.ofEpochDay(table.yearStart(1404)));
+	}
+
+	private static String gregorianDate(LocalDate date) {
+		return date.getYear() + "/" + (date.getMonthValue() - 1) + "/" + date.getDayOfMonth();
+	}
+
+	private static String persianDate(int year, int month, int day) {
+		return year + "/" + month + "/" + day;
+	}
+
+	/**
+	 * The conversion of the old PersianCalendar, zero based months.
+	 */
+	private static final class BaselineConverter {
+
+		private static final int[] GREGORIAN_DAYS_IN_MONTH = { 31, 28, 31, 30, 31, 30, 31, 31, 30, 31, 30, 31 };
+		private static final int[] PERSIAN_DAYS_IN_MONTH = { 31, 31, 31, 31, 31, 31, 30, 30, 30, 30, 30, 29 };
+
+		static int[] gregorianToPersian(int gregorianYear, int gregorianMonth, int gregorianDay) {
+			gregorianYear -= 1600;
+			gregorianDay -= 1;
+			int gregorianDayNo = 365 * gregorianYear + (gregorianYear + 3) / 4 - (gregorianYear + 99) / 100
+					+ (gregorianYear + 399) / 400;
+			for (int i = 0; i < gregorianMonth; ++i) {
+				gregorianDayNo += GREGORIAN_DAYS_IN_MONTH[i];
+			}
+			if (gregorianMonth > 1 && ((gregorianYear % 4 == 0 && gregorianYear % 100 != 0) || (gregorianYear % 400 == 0))) {
+				++gregorianDayNo;
+			}
+			gregorianDayNo += gregorianDay;
+
+			int persianDayNo = gregorianDayNo - 79;
+			int persianNP = persianDayNo / 12053;
+			persianDayNo = persianDayNo % 12053;
+			int persianYear = 979 + 33 * persianNP + 4 * (persianDayNo / 1461);
+			persianDayNo = persianDayNo % 1461;
+			if (persianDayNo >= 366) {
+				persianYear += (persianDayNo - 1) / 365;
+				persianDayNo = (persianDayNo - 1) % 365;
+			}
+			int i;
+			for (i = 0; i < 11 && persianDayNo >= PERSIAN_DAYS_IN_MONTH[i]; ++i) {
+				persianDayNo -= PERSIAN_DAYS_IN_MONTH[i];
+			}
+			return new int[] { persianYear, i, persianDayNo + 1 };
+		}
+
+		static String persianToGregorian(int persianYear, int persianMonth, int persianDay) {
+			persianYear -= 979;
+			persianDay -= 1;
+			int persianDayNo = 365 * persianYear + (persianYear / 33) * 8 + ((persianYear % 33) + 3) / 4;
+			for (int i = 0; i < persianMonth; ++i) {
+				persianDayNo += PERSIAN_DAYS_IN_MONTH[i];
+			}
+			persianDayNo += persianDay;
+
+			int gregorianDayNo = persianDayNo + 79;
+			int gregorianYear = 1600 + 400 * (gregorianDayNo / 146097);
+			gregorianDayNo = gregorianDayNo % 146097;
+			boolean leap = true;
+			if (gregorianDayNo >= 36525) {
+				gregorianDayNo--;
+				gregorianYear += 100 * (gregorianDayNo / 36524);
+				gregorianDayNo = gregorianDayNo % 36524;
+				if (gregorianDayNo >= 365) {
+					gregorianDayNo++;
+				} else {
+					leap = false;
+				}
+			}
+			gregorianYear += 4 * (gregorianDayNo / 1461);
+			gregorianDayNo = gregorianDayNo % 1461;
+			if (gregorianDayNo >= 366) {
+				leap = false;
+				gregorianDayNo--;
+				gregorianYear += gregorianDayNo / 365;
+				gregorianDayNo = gregorianDayNo % 365;
+			}
+			int i;
+			for (i = 0; gregorianDayNo >= GREGORIAN_DAYS_IN_MONTH[i] + (i == 1 && leap ? 1 : 0); i++) {
+				gregorianDayNo -= GREGORIAN_DAYS_IN_MONTH[i] + (i == 1 && leap ? 1 : 0);
+			}
+			return gregorianYear + "/" + i + "/" + (gregorianDayNo + 1);
+		}
+	}
+
+	/**
+	 * The julian day conversion of the old PersianCalendarUtils, zero based
+	 * months.
+	 */
+	private static final class Cycle2820Converter {
+
+		static long persianToJulian(long year, int month, int day) {
+			return 365L * ((ceil(year - 474L, 2820D) + 474L) - 1L)
+					+ ((long) Math.floor((682L * (ceil(year - 474L, 2820D) + 474L) - 110L) / 2816D))
+					+ (PersianCalendarConstants.PERSIAN_EPOCH - 1L) + 1029983L * ((long) Math.floor((year - 474L) / 2820D))
+					+ (month < 7 ? 31 * month : 30 * month + 6) + day;
+		}
+
+		static boolean isPersianLeapYear(int persianYear) {
+			return ceil((38D + (ceil(persianYear - 474L, 2820L) + 474L)) * 682D, 2816D) < 682L;
+		}
+
+		static long julianToPersian(long julianDate) {
+			long persianEpochInJulian = julianDate - persianToJulian(475L, 0, 1);
+			long cyear = ceil(persianEpochInJulian, 1029983D);
+			long ycycle = cyear != 1029982L ? ((long) Math.floor((2816D * (double) cyear + 1031337D) / 1028522D)) : 2820L;
+			long year = 474L + 2820L * ((long) Math.floor(persianEpochInJulian / 1029983D)) + ycycle;
+			long aux = (1L + julianDate) - persianToJulian(year, 0, 1);
+			int month = (int) (aux > 186L ? Math.ceil((double) (aux - 6L) / 30D) - 1 : Math.ceil((double) aux / 31D) - 1);
+			int day = (int) (julianDate - (persianToJulian(year, month, 1) - 1L));
+			return (year << 16) | (month << 8) | day;
+		}
+
+		private static long ceil(double double1, double double2) {
+			return (long) (double1 - double2 * Math.floor(double1 / double2));
+		}
+	}
+}
@@ -0,0 +1,104 @@
+package com.mohamadamin.persianmaterialdatetimepicker;
+
+import android.content.Context;
+import android.content.res.Resources;
+import android.graphics.Paint;
+import android.graphics.Typeface;
+import android.support.v4.util.SimpleArrayMap;
+
+/**
+ * Ready made paints for the day numbers of month views, one per combination
+ * of day state flags. Built once per font, theme and text size and shared by
+ * every month view drawing with them, so drawing a day only picks a paint.
+ * The paints are shared, never modify them.
+ */
+public class MonthDayPaints {
+
+  public static final int STATE_DISABLED = 1;
+  public static final int STATE_SELECTED = 1 << 1;
+  public static final int STATE_TODAY = 1 << 2;
+  public static final int STATE_HIGHLIGHTED = 1 << 3;
+
+  private static final int STATE_COUNT = 1 << 4;
+
+  private static final SimpleArrayMap<String, MonthDayPaints> cache = new SimpleArrayMap<>();
+
+  private final String fontName;
+  private final boolean darkTheme;
+  private final Paint[] paints = new Paint[STATE_COUNT];
+
+  private MonthDayPaints(Context context, String fontName, boolean darkTheme, int textSize) {
+    this.fontName = fontName;
+    this.darkTheme = darkTheme;
+    Resources res = context.getResources();
+    int normalColor;
+    int disabledColor;
+    int highlightedColor;
+    if (darkTheme) {
+      normalColor = res.getColor(R.color.mdtp_date_picker_text_normal_dark_theme);
+      disabledColor = res.getColor(R.color.mdtp_date_picker_text_disabled_dark_theme);
+      highlightedColor = res.getColor(R.color.mdtp_date_picker_text_highlighted_dark_theme);
+    } else {
+      normalColor = res.getColor(R.color.mdtp_date_picker_text_normal);
+      disabledColor = res.getColor(R.color.mdtp_date_picker_text_disabled);
+      highlightedColor = res.getColor(R.color.mdtp_date_picker_text_highlighted);
+    }
+    int selectedColor = res.getColor(R.color.mdtp_white);
+    int todayColor = res.getColor(R.color.mdtp_accent_color);
+
+    Typeface font = TypefaceHelper.get(context, fontName);
+    Typeface normal = Typeface.create(font, Typeface.NORMAL);
+    Typeface bold = Typeface.create(font, Typeface.BOLD);
+
+    for (int state = 0; state < STATE_COUNT; state++) {
+      int color;
+      if ((state & STATE_DISABLED) != 0) {
+        color = disabledColor;
+      } else if ((state & STATE_SELECTED) != 0) {
+        color = selectedColor;
+      } else if ((state & STATE_TODAY) != 0) {
+        color = todayColor;
+      } else if ((state & STATE_HIGHLIGHTED) != 0) {
+        color = highlightedColor;
+      } else {
+        color = normalColor;
+      }
+      Paint paint = new Paint();
+      paint.setAntiAlias(true);
+      paint.setTextSize(textSize);
+      paint.setStyle(Paint.Style.FILL);
+      paint.setTextAlign(Paint.Align.CENTER);
+      paint.setFakeBoldText(false);
+      paint.setTypeface((state & STATE_HIGHLIGHTED) != 0 ? bold : normal);
+      paint.setColor(color);
+      paints[state] = paint;
+    }
+  }
+
+  /**
+   * @return the shared paints for the given font, theme and text size
+   */
+  public static MonthDayPaints get(Context context, String fontName, boolean darkTheme, int textSize) {
+    String key = fontName + '|' + darkTheme + '|' + textSize;
+    synchronized (cache) {
+      MonthDayPaints paints = cache.get(key);
+      if (paints == null) {
+        paints = new MonthDayPaints(context, fontName, darkTheme, textSize);
+        cache.put(key, paints);
+      }
+      return paints;
+    }
+  }
+
+  public boolean isFor(String fontName, boolean darkTheme) {
+    return this.darkTheme == darkTheme && this.fontName.equals(fontName);
+  }
+
+  /**
+   * @param state combination of the STATE_* flags
+   * @return paint for a day number in the given state
+   */
+  public Paint getPaint(int state) {
+    return paints[state];
+  }
+}
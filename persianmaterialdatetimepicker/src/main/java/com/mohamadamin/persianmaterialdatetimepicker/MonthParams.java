@@ -0,0 +1,79 @@
+package com.mohamadamin.persianmaterialdatetimepicker;
+
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateConverter;
+
+import java.util.Calendar;
+
+/**
+ * Parameters binding a month view to a month, the typed counterpart of the
+ * VIEW_PARAMS_* maps. Only holds primitives and month views copy the values
+ * out, so an adapter can refill a single instance for every bind without
+ * boxing or hashing.
+ */
+public class MonthParams {
+
+  /**
+   * Height of a week row in pixels, 0 to keep the current height of the view
+   */
+  public int height;
+  public int year;
+  /**
+   * Zero based persian month
+   */
+  public int month;
+  /**
+   * Which day the week should start on. {@link Calendar#SUNDAY} through
+   * {@link Calendar#SATURDAY}.
+   */
+  public int weekStart = Calendar.SATURDAY;
+  /**
+   * Selected day of the month, -1 if none
+   */
+  public int selectedDay = -1;
+  /**
+   * Selected days of the month, bit {@code d} being set when day {@code d} is selected
+   */
+  public int selectedDaysMask;
+  /**
+   * First day of the selected range packed by {@link PersianDateConverter#pack(int, int, int)},
+   * -1 if no range is selected. The range may start and end outside of the month.
+   */
+  public int rangeStart = -1;
+  /**
+   * Last day of the selected range, packed as {@link #rangeStart}, -1 while only the first
+   * day is chosen
+   */
+  public int rangeEnd = -1;
+  /**
+   * Today packed as {@link #rangeStart}, -1 to mark no day as today. Adapters fill it from
+   * one {@link com.mohamadamin.persianmaterialdatetimepicker.utils.TodayCache} instead of
+   * every view reading the clock.
+   */
+  public int today = -1;
+
+  /**
+   * Restores the default values, keeping nothing from the previous bind.
+   *
+   * @return this instance
+   */
+  public MonthParams reset() {
+    height = 0;
+    year = 0;
+    month = 0;
+    weekStart = Calendar.SATURDAY;
+    selectedDay = -1;
+    selectedDaysMask = 0;
+    rangeStart = -1;
+    rangeEnd = -1;
+    today = -1;
+    return this;
+  }
+
+  public void addSelectedDay(int day) {
+    selectedDaysMask |= 1 << day;
+  }
+
+  public boolean isSelected(int day) {
+    return (selectedDaysMask & (1 << day)) != 0;
+  }
+}
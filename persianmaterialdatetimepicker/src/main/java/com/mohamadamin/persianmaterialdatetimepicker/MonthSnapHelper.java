@@ -0,0 +1,64 @@
+package com.mohamadamin.persianmaterialdatetimepicker;
+
+import android.support.annotation.NonNull;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.RecyclerView;
+import android.support.v7.widget.SnapHelper;
+import android.view.View;
+
+/**
+ * Settles a vertical month list with a month starting at the top, the way the
+ * ListView based day pickers do after a scroll: the first visible month is
+ * kept if more of it than half the list is still showing, otherwise the next
+ * one. A fling moves by at most one month.
+ */
+public class MonthSnapHelper extends SnapHelper {
+
+  @Override
+  public int[] calculateDistanceToFinalSnap(@NonNull RecyclerView.LayoutManager layoutManager,
+                                            @NonNull View targetView) {
+    int[] distance = new int[2];
+    if (layoutManager.canScrollVertically()) {
+      distance[1] = layoutManager.getDecoratedTop(targetView) - layoutManager.getPaddingTop();
+    }
+    return distance;
+  }
+
+  @Override
+  public View findSnapView(RecyclerView.LayoutManager layoutManager) {
+    if (!(layoutManager instanceof LinearLayoutManager)) {
+      return null;
+    }
+    LinearLayoutManager linearLayoutManager = (LinearLayoutManager) layoutManager;
+    int firstPosition = linearLayoutManager.findFirstVisibleItemPosition();
+    int lastPosition = linearLayoutManager.findLastVisibleItemPosition();
+    // Like the ListView pickers, leave the list alone at either end
+    if (firstPosition == RecyclerView.NO_POSITION || firstPosition == 0
+      || lastPosition == layoutManager.getItemCount() - 1) {
+      return null;
+    }
+    View first = layoutManager.findViewByPosition(firstPosition);
+    if (first == null) {
+      return null;
+    }
+    int midpoint = layoutManager.getHeight() / 2;
+    if (layoutManager.getDecoratedBottom(first) > midpoint) {
+      return first;
+    }
+    return layoutManager.findViewByPosition(firstPosition + 1);
+  }
+
+  @Override
+  public int findTargetSnapPosition(RecyclerView.LayoutManager layoutManager, int velocityX,
+                                    int velocityY) {
+    if (!(layoutManager instanceof LinearLayoutManager)) {
+      return RecyclerView.NO_POSITION;
+    }
+    int firstPosition = ((LinearLayoutManager) layoutManager).findFirstVisibleItemPosition();
+    if (firstPosition == RecyclerView.NO_POSITION) {
+      return RecyclerView.NO_POSITION;
+    }
+    int target = velocityY > 0 ? firstPosition + 1 : firstPosition;
+    return Math.min(target, layoutManager.getItemCount() - 1);
+  }
+}
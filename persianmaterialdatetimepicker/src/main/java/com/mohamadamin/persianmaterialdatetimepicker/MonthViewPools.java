@@ -0,0 +1,57 @@
+package com.mohamadamin.persianmaterialdatetimepicker;
+
+import android.app.Activity;
+import android.content.Context;
+import android.content.ContextWrapper;
+import android.support.v4.util.SimpleArrayMap;
+import android.support.v7.widget.RecyclerView;
+import android.view.View;
+
+/**
+ * Month view pools shared by the month lists of an activity, so a date picker
+ * shown again finds its month views already built. The pools are kept in a tag
+ * of the activity's decor view: they live as long as the activity and the
+ * views they hold never outlive their context.
+ */
+public class MonthViewPools {
+
+  private MonthViewPools() {
+  }
+
+  /**
+   * @param key identifies views that can stand in for each other, e.g. the
+   *            same view class, font and theme
+   * @return the pool of the activity of the given context for the given key,
+   * a new unshared pool if the context has no activity
+   */
+  @SuppressWarnings("unchecked")
+  public static RecyclerView.RecycledViewPool get(Context context, String key) {
+    Activity activity = findActivity(context);
+    if (activity == null || activity.getWindow() == null) {
+      return new RecyclerView.RecycledViewPool();
+    }
+    View decorView = activity.getWindow().getDecorView();
+    SimpleArrayMap<String, RecyclerView.RecycledViewPool> pools =
+      (SimpleArrayMap<String, RecyclerView.RecycledViewPool>) decorView.getTag(R.id.mdtp_month_view_pools);
+    if (pools == null) {
+      pools = new SimpleArrayMap<>();
+      decorView.setTag(R.id.mdtp_month_view_pools, pools);
+    }
+    RecyclerView.RecycledViewPool pool = pools.get(key);
+    if (pool == null) {
+      pool = new RecyclerView.RecycledViewPool();
+      pools.put(key, pool);
+    }
+    return pool;
+  }
+
+  private static Activity findActivity(Context context) {
+    while (context instanceof ContextWrapper) {
+      if (context instanceof Activity) {
+        return (Activity) context;
+      }
+      context = ((ContextWrapper) context).getBaseContext();
+    }
+    return null;
+  }
+}
@@ -22,10 +22,15 @@ import android.animation.PropertyValuesHolder;
 import android.annotation.SuppressLint;
 import android.content.res.Resources;
 import android.os.Build;
+import android.os.Bundle;
 import android.util.TypedValue;
 import android.view.View;
 
-import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendarUtils;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.NowruzTable;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateCodec;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateConverter;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateSet;
 
 /**
  * Utility helper functions for time and date pickers.
@@ -57,14 +62,7 @@ public class Utils {
     }
 
     public static int getDaysInMonth(int month, int year) {
-        if (month < 6) {
-            return 31;
-        } else if (month < 11) {
-            return 30;
-        } else {
-            if (PersianCalendarUtils.isPersianLeapYear(year)) return 30;
-            else return 29;
-        }
+        return NowruzTable.getDefault().daysInMonth(year, month);
     }
 
     /**
@@ -137,4 +135,41 @@ public class Utils {
         float px = TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_DIP, dp, resources.getDisplayMetrics());
         return (int) px;
     }
+
+    /**
+     * Saves a day as its packed date, keeping only year, month and day.
+     * @param day The day to save, may be null.
+     */
+    public static void putPersianDay(Bundle bundle, String key, PersianCalendar day) {
+        bundle.putInt(key, day != null ? PersianDateConverter.pack(day.getPersianYear(),
+                day.getPersianMonth(), day.getPersianDay()) : -1);
+    }
+
+    /**
+     * @return A new calendar for the day saved by {@link #putPersianDay}, null if there is none.
+     */
+    public static PersianCalendar getPersianDay(Bundle bundle, String key) {
+        int packed = bundle.getInt(key, -1);
+        return packed >= 0 ? PersianDateSet.toPersianCalendar(packed) : null;
+    }
+
+    /**
+     * Saves days in the compact form of {@link PersianDateCodec} rather than as serialized
+     * calendars, which grow large enough to overflow the binder transaction of a saved state.
+     * @param days The days to save, may be null.
+     */
+    public static void putPersianDays(Bundle bundle, String key, PersianCalendar[] days) {
+        if (days != null) {
+            bundle.putByteArray(key, PersianDateCodec.encode(days));
+        }
+    }
+
+    /**
+     * @return The days saved by {@link #putPersianDays} as sorted packed dates, null if there
+     * are none.
+     */
+    public static int[] getPackedPersianDays(Bundle bundle, String key) {
+        byte[] encoded = bundle.getByteArray(key);
+        return encoded != null ? PersianDateCodec.decode(encoded) : null;
+    }
 }
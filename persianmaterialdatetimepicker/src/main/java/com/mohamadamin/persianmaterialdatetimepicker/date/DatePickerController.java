@@ -16,6 +16,7 @@
 
 package com.mohamadamin.persianmaterialdatetimepicker.date;
 
+import com.mohamadamin.persianmaterialdatetimepicker.utils.MonthDayIndex;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
 
 /**
@@ -33,12 +34,45 @@ public interface DatePickerController {
 
   MonthAdapter.CalendarDay getSelectedDay();
 
+  /**
+   * @return true if taps pick the two ends of a range instead of a single day
+   */
+  boolean isRangeSelection();
+
+  /**
+   * @return first day of the selected range packed by
+   * {@link com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateConverter#pack(int, int, int)},
+   * -1 outside of range selection
+   */
+  int getRangeStart();
+
+  /**
+   * @return last day of the selected range packed as {@link #getRangeStart()}, -1 while only
+   * the first day is chosen
+   */
+  int getRangeEnd();
+
   boolean isThemeDark();
 
+  /**
+   * @return true if month views should draw their static content from a cached bitmap
+   */
+  boolean isMonthCacheEnabled();
+
   PersianCalendar[] getHighlightedDays();
 
   PersianCalendar[] getSelectableDays();
 
+  /**
+   * @return index of {@link #getHighlightedDays()}, null if no day is highlighted
+   */
+  MonthDayIndex getHighlightedDayIndex();
+
+  /**
+   * @return index of {@link #getSelectableDays()}, null if every day is selectable
+   */
+  MonthDayIndex getSelectableDayIndex();
+
   int getFirstDayOfWeek();
 
   int getMinYear();
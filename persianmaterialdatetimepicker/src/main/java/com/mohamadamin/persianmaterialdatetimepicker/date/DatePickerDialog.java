@@ -41,7 +41,12 @@ import com.mohamadamin.persianmaterialdatetimepicker.R;
 import com.mohamadamin.persianmaterialdatetimepicker.TypefaceHelper;
 import com.mohamadamin.persianmaterialdatetimepicker.Utils;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.LanguageUtils;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.MonthDayIndex;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateCodec;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateConverter;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateSet;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDigitCache;
 
 import java.util.Arrays;
 import java.util.Calendar;
@@ -74,7 +79,11 @@ public class DatePickerDialog extends DialogFragment implements
   private static final String KEY_HIGHLIGHTED_DAYS = "highlighted_days";
   private static final String KEY_SELECTABLE_DAYS = "selectable_days";
   private static final String KEY_THEME_DARK = "theme_dark";
+  private static final String KEY_MONTH_CACHE_ENABLED = "month_cache_enabled";
   private static final String KEY_FONT_NAME = "font_name";
+  private static final String KEY_RANGE_SELECTION = "range_selection";
+  private static final String KEY_RANGE_START = "range_start";
+  private static final String KEY_RANGE_END = "range_end";
 
   private static final int DEFAULT_START_YEAR = 1350;
   private static final int DEFAULT_END_YEAR = 1450;
@@ -84,6 +93,7 @@ public class DatePickerDialog extends DialogFragment implements
 
   private final PersianCalendar mPersianCalendar = new PersianCalendar();
   private OnDateSetListener mCallBack;
+  private OnDateRangeSetListener mRangeCallBack;
   private HashSet<OnDateChangedListener> mListeners = new HashSet<>();
   private DialogInterface.OnCancelListener mOnCancelListener;
   private DialogInterface.OnDismissListener mOnDismissListener;
@@ -95,7 +105,7 @@ public class DatePickerDialog extends DialogFragment implements
   private TextView mSelectedMonthTextView;
   private TextView mSelectedDayTextView;
   private TextView mYearView;
-  private DayPickerView mDayPickerView;
+  private DayPickerRecyclerView mDayPickerView;
   private YearPickerView mYearPickerView;
 
   private int mCurrentView = UNINITIALIZED;
@@ -107,7 +117,15 @@ public class DatePickerDialog extends DialogFragment implements
   private PersianCalendar mMaxDate;
   private PersianCalendar[] highlightedDays;
   private PersianCalendar[] selectableDays;
+  // bitset per month built from the arrays above for the month views
+  private MonthDayIndex highlightedDayIndex;
+  private MonthDayIndex selectableDayIndex;
   private boolean mThemeDark;
+  private boolean mMonthCacheEnabled;
+  // Ends of the selected range in range selection mode, packed by PersianDateConverter
+  private boolean mRangeSelection;
+  private int mRangeStart = -1;
+  private int mRangeEnd = -1;
 
   private HapticFeedbackController mHapticFeedbackController;
 
@@ -136,6 +154,19 @@ public class DatePickerDialog extends DialogFragment implements
     void onDateSet(DatePickerDialog view, int year, int monthOfYear, int dayOfMonth);
   }
 
+  /**
+   * The callback used to indicate the user is done selecting a range of dates.
+   */
+  public interface OnDateRangeSetListener {
+
+    /**
+     * @param view  The view associated with this listener.
+     * @param start The first day of the range.
+     * @param end   The last day of the range, the same day as start for a single day range.
+     */
+    void onDateRangeSet(DatePickerDialog view, PersianCalendar start, PersianCalendar end);
+  }
+
   /**
    * The callback used to notify other date picker components of a change in selected date.
    */
@@ -163,6 +194,28 @@ public class DatePickerDialog extends DialogFragment implements
     return ret;
   }
 
+  /**
+   * Creates a dialog picking a range of dates: the first tap chooses its first day and the
+   * next tap on a later day its last one. Until the first tap the initial day is shown as a
+   * single day range, which is what OK reports if the user taps nothing.
+   *
+   * @param callBack    How the parent is notified that the range is set.
+   * @param year        The year of the initial first day of the range.
+   * @param monthOfYear The month of the initial first day of the range.
+   * @param dayOfMonth  The initial first day of the range.
+   */
+  public static DatePickerDialog newRangeInstance(OnDateRangeSetListener callBack, int year,
+                                                  int monthOfYear, int dayOfMonth) {
+    DatePickerDialog ret = new DatePickerDialog();
+    ret.initialize(null, year, monthOfYear, dayOfMonth);
+    ret.mRangeCallBack = callBack;
+    ret.mRangeSelection = true;
+    // A complete single day range, so that the first tap starts a new range
+    ret.mRangeStart = ret.packSelectedDay();
+    ret.mRangeEnd = ret.mRangeStart;
+    return ret;
+  }
+
   public void initialize(OnDateSetListener callBack, int year, int monthOfYear, int dayOfMonth) {
     mCallBack = callBack;
     mPersianCalendar.setPersianDate(year, monthOfYear, dayOfMonth);
@@ -181,6 +234,9 @@ public class DatePickerDialog extends DialogFragment implements
         savedInstanceState.getInt(KEY_SELECTED_MONTH),
         savedInstanceState.getInt(KEY_SELECTED_DAY)
       );
+      mRangeSelection = savedInstanceState.getBoolean(KEY_RANGE_SELECTION);
+      mRangeStart = savedInstanceState.getInt(KEY_RANGE_START, -1);
+      mRangeEnd = savedInstanceState.getInt(KEY_RANGE_END, -1);
     }
   }
 
@@ -190,6 +246,9 @@ public class DatePickerDialog extends DialogFragment implements
     outState.putInt(KEY_SELECTED_YEAR, mPersianCalendar.getPersianYear());
     outState.putInt(KEY_SELECTED_MONTH, mPersianCalendar.getPersianMonth());
     outState.putInt(KEY_SELECTED_DAY, mPersianCalendar.getPersianDay());
+    outState.putBoolean(KEY_RANGE_SELECTION, mRangeSelection);
+    outState.putInt(KEY_RANGE_START, mRangeStart);
+    outState.putInt(KEY_RANGE_END, mRangeEnd);
     outState.putInt(KEY_WEEK_START, mWeekStart);
     outState.putInt(KEY_YEAR_START, mMinYear);
     outState.putInt(KEY_YEAR_END, mMaxYear);
@@ -203,11 +262,12 @@ public class DatePickerDialog extends DialogFragment implements
       outState.putInt(KEY_LIST_POSITION_OFFSET, mYearPickerView.getFirstPositionOffset());
     }
     outState.putInt(KEY_LIST_POSITION, listPosition);
-    outState.putSerializable(KEY_MIN_DATE, mMinDate);
-    outState.putSerializable(KEY_MAX_DATE, mMaxDate);
-    outState.putSerializable(KEY_HIGHLIGHTED_DAYS, highlightedDays);
-    outState.putSerializable(KEY_SELECTABLE_DAYS, selectableDays);
+    Utils.putPersianDay(outState, KEY_MIN_DATE, mMinDate);
+    Utils.putPersianDay(outState, KEY_MAX_DATE, mMaxDate);
+    Utils.putPersianDays(outState, KEY_HIGHLIGHTED_DAYS, highlightedDays);
+    Utils.putPersianDays(outState, KEY_SELECTABLE_DAYS, selectableDays);
     outState.putBoolean(KEY_THEME_DARK, mThemeDark);
+    outState.putBoolean(KEY_MONTH_CACHE_ENABLED, mMonthCacheEnabled);
   }
 
   @Override
@@ -245,14 +305,15 @@ public class DatePickerDialog extends DialogFragment implements
       currentView = savedInstanceState.getInt(KEY_CURRENT_VIEW);
       listPosition = savedInstanceState.getInt(KEY_LIST_POSITION);
       listPositionOffset = savedInstanceState.getInt(KEY_LIST_POSITION_OFFSET);
-      mMinDate = (PersianCalendar) savedInstanceState.getSerializable(KEY_MIN_DATE);
-      mMaxDate = (PersianCalendar) savedInstanceState.getSerializable(KEY_MAX_DATE);
-      highlightedDays = (PersianCalendar[]) savedInstanceState.getSerializable(KEY_HIGHLIGHTED_DAYS);
-      selectableDays = (PersianCalendar[]) savedInstanceState.getSerializable(KEY_SELECTABLE_DAYS);
+      mMinDate = Utils.getPersianDay(savedInstanceState, KEY_MIN_DATE);
+      mMaxDate = Utils.getPersianDay(savedInstanceState, KEY_MAX_DATE);
+      restoreHighlightedDays(Utils.getPackedPersianDays(savedInstanceState, KEY_HIGHLIGHTED_DAYS));
+      restoreSelectableDays(Utils.getPackedPersianDays(savedInstanceState, KEY_SELECTABLE_DAYS));
       mThemeDark = savedInstanceState.getBoolean(KEY_THEME_DARK);
+      mMonthCacheEnabled = savedInstanceState.getBoolean(KEY_MONTH_CACHE_ENABLED);
       fontName = savedInstanceState.getString(KEY_FONT_NAME);
     }
-    mDayPickerView = new SimpleDayPickerView(activity, this);
+    mDayPickerView = new DayPickerRecyclerView(activity, this);
     mYearPickerView = new YearPickerView(activity, this);
 
     Resources res = getResources();
@@ -282,7 +343,13 @@ public class DatePickerDialog extends DialogFragment implements
       @Override
       public void onClick(View v) {
         tryVibrate();
-        if (mCallBack != null) {
+        if (mRangeSelection) {
+          if (mRangeCallBack != null) {
+            int end = mRangeEnd < 0 ? mRangeStart : mRangeEnd;
+            mRangeCallBack.onDateRangeSet(DatePickerDialog.this,
+              PersianDateSet.toPersianCalendar(mRangeStart), PersianDateSet.toPersianCalendar(end));
+          }
+        } else if (mCallBack != null) {
           mCallBack.onDateSet(DatePickerDialog.this, mPersianCalendar.getPersianYear(),
             mPersianCalendar.getPersianMonth(), mPersianCalendar.getPersianDay());
         }
@@ -381,8 +448,7 @@ public class DatePickerDialog extends DialogFragment implements
         }
         pulseAnimator.start();
 
-        String yearString = LanguageUtils.
-          getPersianNumbers(String.valueOf(mPersianCalendar.getPersianYear()));
+        String yearString = PersianDigitCache.get(mPersianCalendar.getPersianYear());
         mAnimator.setContentDescription(mYearPickerDescription + ": " + yearString);
         Utils.tryAccessibilityAnnounce(mAnimator, mSelectYear);
         break;
@@ -394,20 +460,15 @@ public class DatePickerDialog extends DialogFragment implements
       mDayOfWeekTextView.setText(mPersianCalendar.getPersianWeekDayName());
     }
 
-    mSelectedMonthTextView.setText(LanguageUtils.
-      getPersianNumbers(mPersianCalendar.getPersianMonthName()));
-    mSelectedDayTextView.setText(LanguageUtils.
-      getPersianNumbers(String.valueOf(mPersianCalendar.getPersianDay())));
-    mYearView.setText(LanguageUtils.
-      getPersianNumbers(String.valueOf(mPersianCalendar.getPersianYear())));
+    mSelectedMonthTextView.setText(mPersianCalendar.getPersianMonthName());
+    mSelectedDayTextView.setText(PersianDigitCache.get(mPersianCalendar.getPersianDay()));
+    mYearView.setText(PersianDigitCache.get(mPersianCalendar.getPersianYear()));
 
     // Accessibility.
     long millis = mPersianCalendar.getTimeInMillis();
     mAnimator.setDateMillis(millis);
-    String monthAndDayText = LanguageUtils.getPersianNumbers(
-      mPersianCalendar.getPersianMonthName() + " " +
-        mPersianCalendar.getPersianDay()
-    );
+    String monthAndDayText = mPersianCalendar.getPersianMonthName() + " " +
+      PersianDigitCache.get(mPersianCalendar.getPersianDay());
     mMonthAndDayView.setContentDescription(monthAndDayText);
 
     if (announce) {
@@ -436,6 +497,23 @@ public class DatePickerDialog extends DialogFragment implements
     return mThemeDark;
   }
 
+  /**
+   * Set whether month views should keep their static content (title, week day labels and
+   * day numbers) in an offscreen bitmap and only draw the selection on top of it while
+   * scrolling. Trades one bitmap per visible month for cheaper frames, disabled by default.
+   *
+   * @param monthCacheEnabled true to cache the content of each month view
+   */
+  @SuppressWarnings("unused")
+  public void setMonthCacheEnabled(boolean monthCacheEnabled) {
+    mMonthCacheEnabled = monthCacheEnabled;
+  }
+
+  @Override
+  public boolean isMonthCacheEnabled() {
+    return mMonthCacheEnabled;
+  }
+
   @SuppressWarnings("unused")
   public void setFirstDayOfWeek(int startOfWeek) {
     if (startOfWeek < Calendar.SUNDAY || startOfWeek > Calendar.SATURDAY) {
@@ -517,6 +595,11 @@ public class DatePickerDialog extends DialogFragment implements
     // Sort the array to optimize searching over it later on
     Arrays.sort(highlightedDays);
     this.highlightedDays = highlightedDays;
+    this.highlightedDayIndex = MonthDayIndex.of(highlightedDays);
+
+    if (mDayPickerView != null) {
+      mDayPickerView.onChange();
+    }
   }
 
   /**
@@ -538,6 +621,11 @@ public class DatePickerDialog extends DialogFragment implements
     // Sort the array to optimize searching over it later on
     Arrays.sort(selectableDays);
     this.selectableDays = selectableDays;
+    this.selectableDayIndex = MonthDayIndex.of(selectableDays);
+
+    if (mDayPickerView != null) {
+      mDayPickerView.onChange();
+    }
   }
 
   /**
@@ -548,11 +636,36 @@ public class DatePickerDialog extends DialogFragment implements
     return selectableDays;
   }
 
+  private void restoreHighlightedDays(int[] packedDays) {
+    highlightedDays = packedDays != null ? PersianDateCodec.toPersianCalendars(packedDays) : null;
+    highlightedDayIndex = packedDays != null ? MonthDayIndex.ofPacked(packedDays, 0, packedDays.length) : null;
+  }
+
+  private void restoreSelectableDays(int[] packedDays) {
+    selectableDays = packedDays != null ? PersianDateCodec.toPersianCalendars(packedDays) : null;
+    selectableDayIndex = packedDays != null ? MonthDayIndex.ofPacked(packedDays, 0, packedDays.length) : null;
+  }
+
+  @Override
+  public MonthDayIndex getHighlightedDayIndex() {
+    return highlightedDayIndex;
+  }
+
+  @Override
+  public MonthDayIndex getSelectableDayIndex() {
+    return selectableDayIndex;
+  }
+
   @SuppressWarnings("unused")
   public void setOnDateSetListener(OnDateSetListener listener) {
     mCallBack = listener;
   }
 
+  @SuppressWarnings("unused")
+  public void setOnDateRangeSetListener(OnDateRangeSetListener listener) {
+    mRangeCallBack = listener;
+  }
+
   @SuppressWarnings("unused")
   public void setOnCancelListener(DialogInterface.OnCancelListener onCancelListener) {
     mOnCancelListener = onCancelListener;
@@ -598,10 +711,25 @@ public class DatePickerDialog extends DialogFragment implements
   @Override
   public void onDayOfMonthSelected(int year, int month, int day) {
     mPersianCalendar.setPersianDate(year, month, day);
+    if (mRangeSelection) {
+      int tapped = packSelectedDay();
+      // A tap after a complete range or before its first day starts a new range
+      if (mRangeEnd >= 0 || tapped < mRangeStart) {
+        mRangeStart = tapped;
+        mRangeEnd = -1;
+      } else {
+        mRangeEnd = tapped;
+      }
+    }
     updatePickers();
     updateDisplay(true);
   }
 
+  private int packSelectedDay() {
+    return PersianDateConverter.pack(mPersianCalendar.getPersianYear(),
+      mPersianCalendar.getPersianMonth(), mPersianCalendar.getPersianDay());
+  }
+
   private void updatePickers() {
     for (OnDateChangedListener listener : mListeners) {
       listener.onDateChanged();
@@ -614,6 +742,21 @@ public class DatePickerDialog extends DialogFragment implements
     return new MonthAdapter.CalendarDay(mPersianCalendar);
   }
 
+  @Override
+  public boolean isRangeSelection() {
+    return mRangeSelection;
+  }
+
+  @Override
+  public int getRangeStart() {
+    return mRangeSelection ? mRangeStart : -1;
+  }
+
+  @Override
+  public int getRangeEnd() {
+    return mRangeSelection ? mRangeEnd : -1;
+  }
+
   @Override
   public int getMinYear() {
     if (selectableDays != null) {
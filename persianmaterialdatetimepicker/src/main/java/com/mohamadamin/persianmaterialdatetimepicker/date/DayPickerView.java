@@ -127,6 +127,16 @@ public abstract class DayPickerView extends ListView implements OnScrollListener
     protected void refreshAdapter() {
         if (mAdapter == null) {
             mAdapter = createMonthAdapter(getContext(), mController);
+            mAdapter.setOnSelectionChangedListener(new MonthAdapter.OnSelectionChangedListener() {
+                @Override
+                public void onSelectionChanged(int position) {
+                    // Months out of sight pick the selection up when they are bound
+                    View child = getChildAt(position - getFirstVisiblePosition());
+                    if (child instanceof MonthView) {
+                        mAdapter.updateSelection((MonthView) child, position);
+                    }
+                }
+            });
         } else {
             mAdapter.setSelectedDay(mSelectedDay);
         }
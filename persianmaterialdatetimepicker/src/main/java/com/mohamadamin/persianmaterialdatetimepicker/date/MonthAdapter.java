@@ -23,10 +23,12 @@ import android.view.ViewGroup;
 import android.widget.AbsListView.LayoutParams;
 import android.widget.BaseAdapter;
 
+import com.mohamadamin.persianmaterialdatetimepicker.MonthParams;
 import com.mohamadamin.persianmaterialdatetimepicker.date.MonthView.OnDayClickListener;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateConverter;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.TodayCache;
 
-import java.util.HashMap;
 
 /**
  * An adapter for a list of {@link MonthView} items.
@@ -39,6 +41,13 @@ public abstract class MonthAdapter extends BaseAdapter implements OnDayClickList
     protected final DatePickerController mController;
 
     private CalendarDay mSelectedDay;
+    // year * MONTHS_IN_YEAR + month of the selected day when it was last set, -1 before that
+    private int mSelectedMonthOrdinal = -1;
+    private OnSelectionChangedListener mOnSelectionChangedListener;
+    // Refilled for every bind, month views copy the values out
+    private final MonthParams mMonthParams = new MonthParams();
+    // Today's date is converted once a day instead of once per bound month
+    private final TodayCache mTodayCache = new TodayCache();
 
     protected static int WEEK_7_OVERHANG_HEIGHT = 7;
     protected static final int MONTHS_IN_YEAR = 12;
@@ -119,8 +128,72 @@ public abstract class MonthAdapter extends BaseAdapter implements OnDayClickList
      * @param day The day to highlight
      */
     public void setSelectedDay(CalendarDay day) {
+        int previousMonthOrdinal = mSelectedMonthOrdinal;
         mSelectedDay = day;
-        notifyDataSetChanged();
+        mSelectedMonthOrdinal = day.year * MONTHS_IN_YEAR + day.month;
+        if (previousMonthOrdinal == -1) {
+            notifyDataSetChanged();
+            return;
+        }
+        if (mController.isRangeSelection()) {
+            // Months draw the range instead, onDayTapped notifies the ones it changes
+            return;
+        }
+        // Only the months losing and gaining the selection change
+        notifySelectionChanged(previousMonthOrdinal / MONTHS_IN_YEAR,
+                previousMonthOrdinal % MONTHS_IN_YEAR);
+        if (previousMonthOrdinal != mSelectedMonthOrdinal) {
+            notifySelectionChanged(day.year, day.month);
+        }
+    }
+
+    /**
+     * Notified of the months whose selection changed, so that a month list can
+     * update just the views showing them instead of rebinding every month.
+     */
+    public interface OnSelectionChangedListener {
+
+        /**
+         * @param position adapter position of the month, see
+         *                 {@link #updateSelection(MonthView, int)}
+         */
+        void onSelectionChanged(int position);
+    }
+
+    public void setOnSelectionChangedListener(OnSelectionChangedListener listener) {
+        mOnSelectionChangedListener = listener;
+    }
+
+    /**
+     * Tells the month list that the selection of the given month changed. Rebinds
+     * every month when nothing listens for single months.
+     *
+     * @param month zero based persian month
+     */
+    public void notifySelectionChanged(int year, int month) {
+        if (mOnSelectionChangedListener == null) {
+            notifyDataSetChanged();
+            return;
+        }
+        int position = (year - mController.getMinYear()) * MONTHS_IN_YEAR + month;
+        if (position >= 0 && position < getCount()) {
+            mOnSelectionChangedListener.onSelectionChanged(position);
+        }
+    }
+
+    /**
+     * Applies the current selection to a view already bound to the month at the
+     * given position, leaving the rest of its params alone.
+     */
+    public void updateSelection(MonthView view, int position) {
+        final int month = position % MONTHS_IN_YEAR;
+        final int year = position / MONTHS_IN_YEAR + mController.getMinYear();
+        if (mController.isRangeSelection()) {
+            view.setRange(mController.getRangeStart(), mController.getRangeEnd());
+        } else {
+            view.setSelectedDay(isSelectedDayInMonth(year, month) ? mSelectedDay.day : -1);
+        }
+        view.invalidate();
     }
 
     public CalendarDay getSelectedDay() {
@@ -155,15 +228,11 @@ public abstract class MonthAdapter extends BaseAdapter implements OnDayClickList
     }
 
     @SuppressLint("NewApi")
-    @SuppressWarnings("unchecked")
     @Override
     public View getView(int position, View convertView, ViewGroup parent) {
         MonthView v;
-        HashMap<String, Integer> drawingParams = null;
         if (convertView != null) {
             v = (MonthView) convertView;
-            // We store the drawing parameters in the view so it can be recycled
-            drawingParams = (HashMap<String, Integer>) v.getTag();
         } else {
             v = createMonthView(mContext);
             // Set up the new view
@@ -173,28 +242,27 @@ public abstract class MonthAdapter extends BaseAdapter implements OnDayClickList
             v.setClickable(true);
             v.setOnDayClickListener(this);
         }
-        if (drawingParams == null) {
-            drawingParams = new HashMap<>();
-        }
-        drawingParams.clear();
 
         final int month = position % MONTHS_IN_YEAR;
         final int year = position / MONTHS_IN_YEAR + mController.getMinYear();
 
-        int selectedDay = -1;
-        if (isSelectedDayInMonth(year, month)) {
-            selectedDay = mSelectedDay.day;
+        MonthParams monthParams = mMonthParams.reset();
+        if (mController.isRangeSelection()) {
+            monthParams.rangeStart = mController.getRangeStart();
+            monthParams.rangeEnd = mController.getRangeEnd();
+        } else if (isSelectedDayInMonth(year, month)) {
+            monthParams.selectedDay = mSelectedDay.day;
         }
 
         // Invokes requestLayout() to ensure that the recycled view is set with the appropriate
         // height/number of weeks before being displayed.
         v.reuse();
 
-        drawingParams.put(MonthView.VIEW_PARAMS_SELECTED_DAY, selectedDay);
-        drawingParams.put(MonthView.VIEW_PARAMS_YEAR, year);
-        drawingParams.put(MonthView.VIEW_PARAMS_MONTH, month);
-        drawingParams.put(MonthView.VIEW_PARAMS_WEEK_START, mController.getFirstDayOfWeek());
-        v.setMonthParams(drawingParams);
+        monthParams.year = year;
+        monthParams.month = month;
+        monthParams.weekStart = mController.getFirstDayOfWeek();
+        monthParams.today = mTodayCache.get();
+        v.setMonthParams(monthParams);
         v.invalidate();
         return v;
     }
@@ -220,7 +288,59 @@ public abstract class MonthAdapter extends BaseAdapter implements OnDayClickList
      */
     protected void onDayTapped(CalendarDay day) {
         mController.tryVibrate();
+        int previousRangeStart = mController.getRangeStart();
+        int previousRangeEnd = mController.getRangeEnd();
         mController.onDayOfMonthSelected(day.year, day.month, day.day);
         setSelectedDay(day);
+        if (mController.isRangeSelection()) {
+            notifyRangeChanged(previousRangeStart, previousRangeEnd,
+                    mController.getRangeStart(), mController.getRangeEnd());
+        }
+    }
+
+    /**
+     * Tells the month list which months look different after the range changed: those holding
+     * an end of the old or new range and those entering or leaving it. Months inside or outside
+     * of both ranges keep their look. Rebinds once when nothing listens for single months.
+     */
+    private void notifyRangeChanged(int oldStart, int oldEnd, int newStart, int newEnd) {
+        if (mOnSelectionChangedListener == null) {
+            notifyDataSetChanged();
+            return;
+        }
+        int oldFirst = firstRangeMonth(oldStart);
+        int oldLast = lastRangeMonth(oldStart, oldEnd);
+        int newFirst = firstRangeMonth(newStart);
+        int newLast = lastRangeMonth(newStart, newEnd);
+        for (int ordinal = oldFirst; ordinal <= oldLast; ordinal++) {
+            if (ordinal == oldFirst || ordinal == oldLast || ordinal == newFirst || ordinal == newLast
+                    || ordinal < newFirst || ordinal > newLast) {
+                notifySelectionChanged(ordinal / MONTHS_IN_YEAR, ordinal % MONTHS_IN_YEAR);
+            }
+        }
+        // Months of the new range that are also in the old one were handled above
+        for (int ordinal = newFirst; ordinal <= newLast; ordinal++) {
+            if (ordinal < oldFirst || ordinal > oldLast) {
+                notifySelectionChanged(ordinal / MONTHS_IN_YEAR, ordinal % MONTHS_IN_YEAR);
+            }
+        }
+    }
+
+    /**
+     * @return month ordinal of the first day of a range, 0 when there is no range
+     */
+    private static int firstRangeMonth(int rangeStart) {
+        return rangeStart < 0 ? 0 : PersianDateConverter.monthOrdinal(rangeStart);
+    }
+
+    /**
+     * @return month ordinal of the last day of a range, -1 when there is no range so that
+     * no month lies between the first and the last one
+     */
+    private static int lastRangeMonth(int rangeStart, int rangeEnd) {
+        if (rangeStart < 0) {
+            return -1;
+        }
+        return PersianDateConverter.monthOrdinal(rangeEnd < 0 ? rangeStart : rangeEnd);
     }
 }
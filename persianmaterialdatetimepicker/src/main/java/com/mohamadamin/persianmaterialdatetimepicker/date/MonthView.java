@@ -18,7 +18,9 @@ package com.mohamadamin.persianmaterialdatetimepicker.date;
 
 import android.content.Context;
 import android.content.res.Resources;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
+import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Paint.Align;
 import android.graphics.Paint.Style;
@@ -35,12 +37,19 @@ import android.view.View;
 import android.view.accessibility.AccessibilityEvent;
 import android.view.accessibility.AccessibilityNodeInfo;
 
+import com.mohamadamin.persianmaterialdatetimepicker.MonthDayPaints;
+import com.mohamadamin.persianmaterialdatetimepicker.MonthParams;
 import com.mohamadamin.persianmaterialdatetimepicker.R;
 import com.mohamadamin.persianmaterialdatetimepicker.TypefaceHelper;
-import com.mohamadamin.persianmaterialdatetimepicker.Utils;
 import com.mohamadamin.persianmaterialdatetimepicker.date.MonthAdapter.CalendarDay;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.LanguageUtils;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.MonthDayIndex;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.MonthGridTable;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendarConstants;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateConverter;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDigitCache;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.TodayCache;
 
 import java.security.InvalidParameterException;
 import java.util.Calendar;
@@ -107,6 +116,13 @@ public abstract class MonthView extends View {
   protected static final int MAX_NUM_ROWS = 6;
 
   private static final int SELECTED_CIRCLE_ALPHA = 255;
+  private static final int RANGE_BACKGROUND_ALPHA = 60;
+
+  // flags of mDayStates
+  protected static final int DAY_STATE_DISABLED = MonthDayPaints.STATE_DISABLED;
+  protected static final int DAY_STATE_SELECTED = MonthDayPaints.STATE_SELECTED;
+  protected static final int DAY_STATE_TODAY = MonthDayPaints.STATE_TODAY;
+  protected static final int DAY_STATE_HIGHLIGHTED = MonthDayPaints.STATE_HIGHLIGHTED;
 
   protected static int DAY_SEPARATOR_WIDTH = 1;
   protected static int MINI_DAY_NUMBER_TEXT_SIZE;
@@ -125,11 +141,32 @@ public abstract class MonthView extends View {
 
 
   protected Paint mMonthNumPaint;
+  // shared day number paints for every day state, see updateDayPaints()
+  protected MonthDayPaints mDayPaints;
   protected Paint mMonthTitlePaint;
   protected Paint mSelectedCirclePaint;
+  protected Paint mRangePaint;
   protected Paint mMonthDayLabelPaint;
 
-  private final StringBuilder mStringBuilder;
+  // Month title, built once per setMonthParams instead of on every draw
+  private String mMonthAndYearString;
+
+  // First letter of the persian week day names, index 0 being Saturday
+  private static final String[] WEEK_DAY_LABELS = new String[7];
+
+  static {
+    for (int i = 0; i < WEEK_DAY_LABELS.length; i++) {
+      WEEK_DAY_LABELS[i] = PersianCalendarConstants.persianWeekDays[i].substring(0, 1);
+    }
+  }
+
+  // Static content (title, week day labels and unselected day numbers) kept offscreen when
+  // the controller enables the month cache, redrawn only after invalidateContentCache()
+  private Bitmap mContentCache;
+  private Canvas mContentCacheCanvas;
+  private boolean mContentCacheValid;
+  // Applied to the day states while drawing, drops the selection when filling the cache
+  private int mDrawStateMask = ~0;
 
   // The Julian day of the first day displayed by this item
   protected int mFirstJulianDay = -1;
@@ -161,9 +198,15 @@ public abstract class MonthView extends View {
   protected int mSelectedLeft = -1;
   // The right edge of the selected day
   protected int mSelectedRight = -1;
+  // Days of this month covered by the selected range, -1 if the range misses the month
+  protected int mRangeFirstDay = -1;
+  protected int mRangeLastDay = -1;
+  // Ends of the selected range falling in this month, -1 if the range goes on past the month
+  protected int mRangeStartDay = -1;
+  protected int mRangeEndDay = -1;
+  // DAY_STATE_* flags of every day of the month, indexed by day number
+  protected final byte[] mDayStates = new byte[32];
 
-  private final PersianCalendar mPersianCalendar;
-  protected final PersianCalendar mDayLabelCalendar;
   private final MonthViewTouchHelper mTouchHelper;
 
   protected int mNumRows = DEFAULT_NUM_ROWS;
@@ -192,9 +235,6 @@ public abstract class MonthView extends View {
     mController = controller;
     Resources res = context.getResources();
 
-    mDayLabelCalendar = new PersianCalendar();
-    mPersianCalendar = new PersianCalendar();
-
     boolean darkTheme = mController != null && mController.isThemeDark();
     if (darkTheme) {
       mDayTextColor = res.getColor(R.color.mdtp_date_picker_text_normal_dark_theme);
@@ -211,8 +251,6 @@ public abstract class MonthView extends View {
     mTodayNumberColor = res.getColor(R.color.mdtp_accent_color);
     mMonthTitleColor = res.getColor(R.color.mdtp_white);
 
-    mStringBuilder = new StringBuilder(50);
-
     MINI_DAY_NUMBER_TEXT_SIZE = res.getDimensionPixelSize(R.dimen.mdtp_day_number_size);
     MONTH_LABEL_TEXT_SIZE = res.getDimensionPixelSize(R.dimen.mdtp_month_label_size);
     MONTH_DAY_LABEL_TEXT_SIZE = res.getDimensionPixelSize(R.dimen.mdtp_month_day_label_text_size);
@@ -300,6 +338,12 @@ public abstract class MonthView extends View {
     mSelectedCirclePaint.setTypeface(TypefaceHelper.get(getContext(), mController.getTypeface()));
     mSelectedCirclePaint.setAlpha(SELECTED_CIRCLE_ALPHA);
 
+    mRangePaint = new Paint();
+    mRangePaint.setAntiAlias(true);
+    mRangePaint.setColor(mTodayNumberColor);
+    mRangePaint.setStyle(Style.FILL);
+    mRangePaint.setAlpha(RANGE_BACKGROUND_ALPHA);
+
     mMonthDayLabelPaint = new Paint();
     mMonthDayLabelPaint.setAntiAlias(true);
     mMonthDayLabelPaint.setTextSize(MONTH_DAY_LABEL_TEXT_SIZE);
@@ -316,23 +360,96 @@ public abstract class MonthView extends View {
     mMonthNumPaint.setTextAlign(Align.CENTER);
     mMonthNumPaint.setTypeface(TypefaceHelper.get(getContext(), mController.getTypeface()));
     mMonthNumPaint.setFakeBoldText(false);
+
+    updateDayPaints();
+  }
+
+  /**
+   * Picks the shared day number paints for the controller's font and theme.
+   */
+  protected void updateDayPaints() {
+    String fontName = mController.getTypeface();
+    boolean darkTheme = mController.isThemeDark();
+    if (mDayPaints == null || !mDayPaints.isFor(fontName, darkTheme)) {
+      mDayPaints = MonthDayPaints.get(getContext(), fontName, darkTheme, MINI_DAY_NUMBER_TEXT_SIZE);
+      invalidateContentCache();
+    }
   }
 
   @Override
   protected void onDraw(Canvas canvas) {
-    drawMonthTitle(canvas);
-    drawMonthDayLabels(canvas);
-    drawMonthNums(canvas);
+    if (mController.isMonthCacheEnabled() && getWidth() > 0 && getHeight() > 0) {
+      // The cache is transparent around its content, the range shows through it
+      drawRangeBackground(canvas);
+      drawContentCache(canvas);
+      // Selected days are drawn over their cached unselected look
+      drawMonthNums(canvas, DAY_STATE_SELECTED);
+    } else {
+      drawMonthTitle(canvas);
+      drawMonthDayLabels(canvas);
+      drawRangeBackground(canvas);
+      drawMonthNums(canvas);
+    }
+  }
+
+  private void drawContentCache(Canvas canvas) {
+    int width = getWidth();
+    int height = getHeight();
+    if (mContentCache == null || mContentCache.getWidth() != width
+      || mContentCache.getHeight() != height) {
+      releaseContentCache();
+      mContentCache = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+      mContentCacheCanvas = new Canvas(mContentCache);
+    }
+    if (!mContentCacheValid) {
+      mContentCache.eraseColor(Color.TRANSPARENT);
+      mDrawStateMask = ~DAY_STATE_SELECTED;
+      drawMonthTitle(mContentCacheCanvas);
+      drawMonthDayLabels(mContentCacheCanvas);
+      drawMonthNums(mContentCacheCanvas);
+      mDrawStateMask = ~0;
+      mContentCacheValid = true;
+    }
+    canvas.drawBitmap(mContentCache, 0, 0, null);
+  }
+
+  /**
+   * Marks the cached month content as stale so it is redrawn on the next frame. The month
+   * params, day states and paints already call it when they change; subclasses drawing
+   * anything else that is not tied to the selection should call it too.
+   */
+  protected void invalidateContentCache() {
+    mContentCacheValid = false;
+  }
+
+  private void releaseContentCache() {
+    if (mContentCache != null) {
+      mContentCache.recycle();
+      mContentCache = null;
+      mContentCacheCanvas = null;
+    }
+    mContentCacheValid = false;
+  }
+
+  @Override
+  protected void onDetachedFromWindow() {
+    super.onDetachedFromWindow();
+    releaseContentCache();
   }
 
   private int mDayOfWeekStart = 0;
+  // Only used by the map overload of setMonthParams, adapters pass their own MonthParams
+  private final MonthParams mMapParams = new MonthParams();
+  private TodayCache mTodayCache;
 
   /**
    * Sets all the parameters for displaying this week. The only required
    * parameter is the week number. Other parameters have a default value and
    * will only update if a new value is included, except for focus month,
    * which will always default to no focus month if no value is passed in. See
-   * {@link #VIEW_PARAMS_HEIGHT} for more info on parameters.
+   * {@link #VIEW_PARAMS_HEIGHT} for more info on parameters. The values are
+   * copied into a MonthParams held by the view and the map is not kept, so it is
+   * no longer set as the view tag.
    *
    * @param params A map of the new parameters, see
    *               {@link #VIEW_PARAMS_HEIGHT}
@@ -341,54 +458,148 @@ public abstract class MonthView extends View {
     if (!params.containsKey(VIEW_PARAMS_MONTH) && !params.containsKey(VIEW_PARAMS_YEAR)) {
       throw new InvalidParameterException("You must specify month and year for this view");
     }
-    setTag(params);
+    MonthParams monthParams = mMapParams.reset();
     // We keep the current value for any params not present
     if (params.containsKey(VIEW_PARAMS_HEIGHT)) {
-      mRowHeight = params.get(VIEW_PARAMS_HEIGHT);
+      monthParams.height = params.get(VIEW_PARAMS_HEIGHT);
+    }
+    monthParams.selectedDay = params.containsKey(VIEW_PARAMS_SELECTED_DAY)
+      ? params.get(VIEW_PARAMS_SELECTED_DAY) : mSelectedDay;
+    monthParams.month = params.get(VIEW_PARAMS_MONTH);
+    monthParams.year = params.get(VIEW_PARAMS_YEAR);
+    if (params.containsKey(VIEW_PARAMS_WEEK_START)) {
+      monthParams.weekStart = params.get(VIEW_PARAMS_WEEK_START);
+    }
+    if (mTodayCache == null) {
+      mTodayCache = new TodayCache();
+    }
+    monthParams.today = mTodayCache.get();
+    setMonthParams(monthParams);
+  }
+
+  /**
+   * Binds this view to a month. The values are copied out of params, so the caller may
+   * reuse the same instance for the next bind.
+   *
+   * @param params the month to display and its selection
+   */
+  public void setMonthParams(MonthParams params) {
+    if (params.height != 0) {
+      mRowHeight = params.height;
       if (mRowHeight < MIN_HEIGHT) {
         mRowHeight = MIN_HEIGHT;
       }
     }
-    if (params.containsKey(VIEW_PARAMS_SELECTED_DAY)) {
-      mSelectedDay = params.get(VIEW_PARAMS_SELECTED_DAY);
+    mSelectedDay = params.selectedDay;
+    int previousYear = mYear;
+    int previousMonth = mMonth;
+    mMonth = params.month;
+    mYear = params.year;
+
+    int layout = MonthGridTable.get(mYear, mMonth);
+    mDayOfWeekStart = MonthGridTable.firstDayOfWeek(layout);
+
+    if (mYear != previousYear || mMonth != previousMonth || mMonthAndYearString == null) {
+      mMonthAndYearString = PersianCalendarConstants.persianMonthNames[mMonth] + " "
+        + PersianDigitCache.get(mYear);
+      invalidateContentCache();
+    } else if (mWeekStart != params.weekStart) {
+      invalidateContentCache();
     }
+    mWeekStart = params.weekStart;
 
-    // Allocate space for caching the day numbers and focus values
-    mMonth = params.get(VIEW_PARAMS_MONTH);
-    mYear = params.get(VIEW_PARAMS_YEAR);
+    mNumCells = MonthGridTable.daysInMonth(layout);
+    mHasToday = params.today >= 0
+      && PersianDateConverter.monthOrdinal(params.today) == mYear * 12 + mMonth;
+    mToday = mHasToday ? PersianDateConverter.day(params.today) : -1;
+    mNumRows = MonthGridTable.numRows(layout, mWeekStart);
+    updateRangeDays(params.rangeStart, params.rangeEnd);
+    updateDayStates();
+    updateDayPaints();
 
-    // Figure out what day today is
-    //final Time today = new Time(Time.getCurrentTimezone());
-    //today.setToNow();
-    final PersianCalendar today = new PersianCalendar();
-    mHasToday = false;
-    mToday = -1;
+    // Invalidate cached accessibility information.
+    mTouchHelper.invalidateRoot();
+  }
 
-    mPersianCalendar.setPersianDate(mYear, mMonth, 1);
-    mDayOfWeekStart = mPersianCalendar.get(Calendar.DAY_OF_WEEK);
+  public void setSelectedDay(int day) {
+    mSelectedDay = day;
+    updateDayStates();
+  }
 
-    if (params.containsKey(VIEW_PARAMS_WEEK_START)) {
-      mWeekStart = params.get(VIEW_PARAMS_WEEK_START);
+  /**
+   * @param rangeStart first day of the selected range, see {@link MonthParams#rangeStart}
+   * @param rangeEnd   last day of the selected range, see {@link MonthParams#rangeEnd}
+   */
+  public void setRange(int rangeStart, int rangeEnd) {
+    updateRangeDays(rangeStart, rangeEnd);
+    updateDayStates();
+  }
+
+  /**
+   * Clips the packed range to this month. Packed dates compare in calendar order, so this
+   * takes a few comparisons whatever the length of the range.
+   */
+  private void updateRangeDays(int rangeStart, int rangeEnd) {
+    mRangeFirstDay = mRangeLastDay = mRangeStartDay = mRangeEndDay = -1;
+    if (rangeStart < 0) {
+      return;
+    }
+    int last = rangeEnd < 0 ? rangeStart : rangeEnd;
+    int monthFirst = PersianDateConverter.pack(mYear, mMonth, 1);
+    int monthLast = PersianDateConverter.pack(mYear, mMonth, mNumCells);
+    if (last < monthFirst || rangeStart > monthLast) {
+      return;
+    }
+    if (rangeStart >= monthFirst) {
+      mRangeStartDay = mRangeFirstDay = PersianDateConverter.day(rangeStart);
+    } else {
+      mRangeFirstDay = 1;
+    }
+    if (last <= monthLast) {
+      mRangeEndDay = mRangeLastDay = PersianDateConverter.day(last);
     } else {
-      mWeekStart = Calendar.SATURDAY;
+      mRangeLastDay = mNumCells;
     }
+  }
 
-    mNumCells = Utils.getDaysInMonth(mMonth, mYear);
-    for (int i = 0; i < mNumCells; i++) {
-      final int day = i + 1;
-      if (sameDay(day, today)) {
-        mHasToday = true;
-        mToday = day;
+  private boolean isSelectedDay(int day) {
+    return day == mSelectedDay || day == mRangeStartDay || day == mRangeEndDay;
+  }
+
+  /**
+   * Recomputes the state of every day of the month from the month params and
+   * the controller's constraints, so that drawing only reads
+   * {@link #getDayState(int)}. Runs whenever the month params or the selected
+   * day change; call it if the constraints change while the view is bound.
+   */
+  protected void updateDayStates() {
+    for (int day = 1; day <= mNumCells; day++) {
+      int state = 0;
+      if (isOutOfRange(mYear, mMonth, day)) {
+        state |= DAY_STATE_DISABLED;
+      }
+      if (isSelectedDay(day)) {
+        state |= DAY_STATE_SELECTED;
+      }
+      if (mHasToday && mToday == day) {
+        state |= DAY_STATE_TODAY;
+      }
+      if (isHighlighted(mYear, mMonth, day)) {
+        state |= DAY_STATE_HIGHLIGHTED;
       }
+      if (((mDayStates[day] ^ state) & ~DAY_STATE_SELECTED) != 0) {
+        // Only a selection change leaves the cached content valid
+        invalidateContentCache();
+      }
+      mDayStates[day] = (byte) state;
     }
-    mNumRows = calculateNumRows();
-
-    // Invalidate cached accessibility information.
-    mTouchHelper.invalidateRoot();
   }
 
-  public void setSelectedDay(int day) {
-    mSelectedDay = day;
+  /**
+   * @return DAY_STATE_* flags of the given day of the current month
+   */
+  protected int getDayState(int day) {
+    return mDayStates[day] & mDrawStateMask;
   }
 
   public void reuse() {
@@ -396,19 +607,6 @@ public abstract class MonthView extends View {
     requestLayout();
   }
 
-  private int calculateNumRows() {
-    int offset = findDayOffset();
-    int dividend = (offset + mNumCells) / mNumDays;
-    int remainder = (offset + mNumCells) % mNumDays;
-    return (dividend + (remainder > 0 ? 1 : 0));
-  }
-
-  private boolean sameDay(int day, PersianCalendar today) {
-    return mYear == today.getPersianYear() &&
-      mMonth == today.getPersianMonth() &&
-      day == today.getPersianDay();
-  }
-
   @Override
   protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
     setMeasuredDimension(MeasureSpec.getSize(widthMeasureSpec), mRowHeight * mNumRows
@@ -439,9 +637,7 @@ public abstract class MonthView extends View {
   }
 
   private String getMonthAndYearString() {
-    mStringBuilder.setLength(0);
-    return LanguageUtils.getPersianNumbers(
-      mPersianCalendar.getPersianMonthName() + " " + mPersianCalendar.getPersianYear());
+    return mMonthAndYearString;
   }
 
   protected void drawMonthTitle(Canvas canvas) {
@@ -457,10 +653,8 @@ public abstract class MonthView extends View {
     for (int i = 0; i < mNumDays; i++) {
       int calendarDay = (i + mWeekStart) % mNumDays;
       int x = (int) (firstX - (2 * i + 1) * dayWidthHalf + mEdgePadding);
-      mDayLabelCalendar.set(Calendar.DAY_OF_WEEK, calendarDay);
-      String localWeekDisplayName = mDayLabelCalendar.getPersianWeekDayName(); // TODO: RTLize
-      String weekString = localWeekDisplayName.substring(0, 1);
-      canvas.drawText(weekString, x, y, mMonthDayLabelPaint);
+      // Calendar.DAY_OF_WEEK modulo 7 indexes the persian week days, 0 being Saturday
+      canvas.drawText(WEEK_DAY_LABELS[calendarDay % 7], x, y, mMonthDayLabelPaint);
     }
   }
 
@@ -471,6 +665,13 @@ public abstract class MonthView extends View {
    * @param canvas The canvas to draw on
    */
   protected void drawMonthNums(Canvas canvas) {
+    drawMonthNums(canvas, 0);
+  }
+
+  /**
+   * Draws the days having any of the given DAY_STATE_* flags, every day if flags is 0.
+   */
+  private void drawMonthNums(Canvas canvas, int flags) {
     int y = (((mRowHeight + MINI_DAY_NUMBER_TEXT_SIZE) / 2) - DAY_SEPARATOR_WIDTH)
       + getMonthHeaderSize();
     final float dayWidthHalf = (mWidth - mEdgePadding * 2) / (mNumDays * 2.0f);
@@ -486,7 +687,9 @@ public abstract class MonthView extends View {
       final int startY = y - yRelativeToDay;
       final int stopY = startY + mRowHeight;
 
-      drawMonthDay(canvas, mYear, mMonth, dayNumber, x, y, startX, stopX, startY, stopY);
+      if (flags == 0 || (mDayStates[dayNumber] & flags) != 0) {
+        drawMonthDay(canvas, mYear, mMonth, dayNumber, x, y, startX, stopX, startY, stopY);
+      }
 
       j++;
       if (j == mNumDays) {
@@ -496,6 +699,42 @@ public abstract class MonthView extends View {
     }
   }
 
+  /**
+   * Draws the selected range as one band per week row, running from the center of its first
+   * day to the center of its last one and out to the row edges where the range goes on.
+   */
+  protected void drawRangeBackground(Canvas canvas) {
+    if (mRangeFirstDay < 0) {
+      return;
+    }
+    final float dayWidthHalf = (mWidth - mEdgePadding * 2) / (mNumDays * 2.0f);
+    float firstX = (2 * (mNumDays - 1) + 1) * dayWidthHalf + rightSpace;
+    int offset = findDayOffset();
+    int firstCell = offset + mRangeFirstDay - 1;
+    int lastCell = offset + mRangeLastDay - 1;
+    int firstRow = firstCell / mNumDays;
+    int lastRow = lastCell / mNumDays;
+    int y = (((mRowHeight + MINI_DAY_NUMBER_TEXT_SIZE) / 2) - DAY_SEPARATOR_WIDTH)
+      + getMonthHeaderSize() + firstRow * mRowHeight - (MINI_DAY_NUMBER_TEXT_SIZE / 3);
+    for (int row = firstRow; row <= lastRow; row++, y += mRowHeight) {
+      int fromColumn = row == firstRow ? firstCell % mNumDays : 0;
+      int toColumn = row == lastRow ? lastCell % mNumDays : mNumDays - 1;
+      // Columns run right to left
+      float right = firstX - ((2 * fromColumn + 1) * dayWidthHalf + mEdgePadding);
+      float left = firstX - ((2 * toColumn + 1) * dayWidthHalf + mEdgePadding);
+      if (row != firstRow || mRangeStartDay < 0) {
+        right += dayWidthHalf;
+      }
+      if (row != lastRow || mRangeEndDay < 0) {
+        left -= dayWidthHalf;
+      }
+      if (left < right) {
+        canvas.drawRect(left, y - DAY_SELECTED_CIRCLE_SIZE, right, y + DAY_SELECTED_CIRCLE_SIZE,
+          mRangePaint);
+      }
+    }
+  }
+
   /**
    * This method should draw the month day.  Implemented by sub-classes to allow customization.
    *
@@ -585,7 +824,7 @@ public abstract class MonthView extends View {
    * Integer.MAX_VALUE.
    */
   protected boolean isOutOfRange(int year, int month, int day) {
-    if (mController.getSelectableDays() != null) {
+    if (mController.getSelectableDayIndex() != null) {
       return !isSelectable(year, month, day);
     }
 
@@ -599,29 +838,8 @@ public abstract class MonthView extends View {
   }
 
   private boolean isSelectable(int year, int month, int day) {
-    PersianCalendar[] selectableDays = mController.getSelectableDays();
-    for (PersianCalendar c : selectableDays) {
-      if (year < c.getPersianYear()) {
-        break;
-      }
-      if (year > c.getPersianYear()) {
-        continue;
-      }
-      if (month < c.getPersianMonth()) {
-        break;
-      }
-      if (month > c.getPersianMonth()) {
-        continue;
-      }
-      if (day < c.getPersianDay()) {
-        break;
-      }
-      if (day > c.getPersianDay()) {
-        continue;
-      }
-      return true;
-    }
-    return false;
+    MonthDayIndex selectableDays = mController.getSelectableDayIndex();
+    return selectableDays == null || selectableDays.contains(year, month, day);
   }
 
   private boolean isBeforeMin(int year, int month, int day) {
@@ -687,32 +905,8 @@ public abstract class MonthView extends View {
    * @return true if the given date should be highlighted
    */
   protected boolean isHighlighted(int year, int month, int day) {
-    PersianCalendar[] highlightedDays = mController.getHighlightedDays();
-    if (highlightedDays == null) {
-      return false;
-    }
-    for (PersianCalendar c : highlightedDays) {
-      if (year < c.getPersianYear()) {
-        break;
-      }
-      if (year > c.getPersianYear()) {
-        continue;
-      }
-      if (month < c.getPersianMonth()) {
-        break;
-      }
-      if (month > c.getPersianMonth()) {
-        continue;
-      }
-      if (day < c.getPersianDay()) {
-        break;
-      }
-      if (day > c.getPersianDay()) {
-        continue;
-      }
-      return true;
-    }
-    return false;
+    MonthDayIndex highlightedDays = mController.getHighlightedDayIndex();
+    return highlightedDays != null && highlightedDays.contains(year, month, day);
   }
 
   /**
@@ -808,7 +1002,7 @@ public abstract class MonthView extends View {
       node.setBoundsInParent(mTempRect);
       node.addAction(AccessibilityNodeInfo.ACTION_CLICK);
 
-      if (virtualViewId == mSelectedDay) {
+      if (isSelectedDay(virtualViewId)) {
         node.setSelected(true);
       }
 
@@ -858,7 +1052,7 @@ public abstract class MonthView extends View {
       mTempCalendar.setPersianDate(mYear, mMonth, day);
       final String date = LanguageUtils.getPersianNumbers(mTempCalendar.getPersianLongDate());
 
-      if (day == mSelectedDay) {
+      if (isSelectedDay(day)) {
         return getContext().getString(R.string.mdtp_item_is_selected, date);
       }
 
@@ -31,6 +31,7 @@ import android.widget.TextView;
 import com.mohamadamin.persianmaterialdatetimepicker.R;
 import com.mohamadamin.persianmaterialdatetimepicker.date.DatePickerDialog.OnDateChangedListener;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.LanguageUtils;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDigitCache;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -72,9 +73,8 @@ public class YearPickerView extends ListView implements OnItemClickListener, OnD
     private void init(Context context) {
         ArrayList<String> years = new ArrayList<>();
         for (int year = mController.getMinYear(); year <= mController.getMaxYear(); year++) {
-            years.add(String.format("%d", year));
+            years.add(PersianDigitCache.get(year));
         }
-        years = LanguageUtils.getPersianNumbers(years);
         mAdapter = new YearAdapter(context, R.layout.mdtp_year_label_text_view, years);
         setAdapter(mAdapter);
     }
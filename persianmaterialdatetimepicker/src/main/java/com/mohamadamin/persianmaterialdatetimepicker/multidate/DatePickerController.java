@@ -16,7 +16,9 @@
 
 package com.mohamadamin.persianmaterialdatetimepicker.multidate;
 
+import com.mohamadamin.persianmaterialdatetimepicker.utils.MonthDayIndex;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateSet;
 
 import java.util.ArrayList;
 
@@ -29,6 +31,13 @@ public interface DatePickerController {
 
   void onDaysOfMonthSelected(ArrayList<PersianCalendar> selectedDays);
 
+  /**
+   * Called after the month views changed {@link #getSelectedDaySet()} in place.
+   *
+   * @param toggledDate the packed day the user tapped, added to or removed from the set
+   */
+  void onSelectedDaysChanged(int toggledDate);
+
   void registerOnDateChangedListener(MultiDatePickerDialog.OnDateChangedListener listener);
 
   void unregisterOnDateChangedListener(MultiDatePickerDialog.OnDateChangedListener listener);
@@ -37,12 +46,32 @@ public interface DatePickerController {
 
   void setSelectedDays(ArrayList<PersianCalendar> selectedDays);
 
+  /**
+   * @return the live set of selected days, shared with the month views
+   */
+  PersianDateSet getSelectedDaySet();
+
   boolean isThemeDark();
 
+  /**
+   * @return true if month views should draw their static content from a cached bitmap
+   */
+  boolean isMonthCacheEnabled();
+
   PersianCalendar[] getHighlightedDays();
 
   PersianCalendar[] getSelectableDays();
 
+  /**
+   * @return index of {@link #getHighlightedDays()}, null if no day is highlighted
+   */
+  MonthDayIndex getHighlightedDayIndex();
+
+  /**
+   * @return index of {@link #getSelectableDays()}, null if every day is selectable
+   */
+  MonthDayIndex getSelectableDayIndex();
+
   int getFirstDayOfWeek();
 
   int getMinYear();
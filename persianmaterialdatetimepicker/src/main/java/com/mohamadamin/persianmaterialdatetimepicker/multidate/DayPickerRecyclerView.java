@@ -0,0 +1,429 @@
+package com.mohamadamin.persianmaterialdatetimepicker.multidate;
+
+import android.annotation.SuppressLint;
+import android.content.Context;
+import android.database.DataSetObserver;
+import android.os.Build;
+import android.os.Bundle;
+import android.support.annotation.NonNull;
+import android.support.v7.widget.LinearLayoutManager;
+import android.support.v7.widget.LinearSmoothScroller;
+import android.support.v7.widget.RecyclerView;
+import android.util.AttributeSet;
+import android.view.View;
+import android.view.ViewGroup;
+import android.view.accessibility.AccessibilityEvent;
+import android.view.accessibility.AccessibilityNodeInfo;
+
+import com.mohamadamin.persianmaterialdatetimepicker.MonthSnapHelper;
+import com.mohamadamin.persianmaterialdatetimepicker.MonthViewPools;
+import com.mohamadamin.persianmaterialdatetimepicker.Utils;
+import com.mohamadamin.persianmaterialdatetimepicker.multidate.MultiDatePickerDialog.OnDateChangedListener;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendarConstants;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDigitCache;
+
+import java.util.List;
+
+/**
+ * A {@link DayPickerView} on a RecyclerView: months settle at the top through a
+ * {@link MonthSnapHelper} instead of delayed scroll state posts, the month after
+ * the visible one is laid out ahead and further ones are prefetched while
+ * scrolling, and month views are recycled through a pool shared by the date
+ * pickers of the same activity. Binding still goes through {@link MonthAdapter}.
+ */
+public class DayPickerRecyclerView extends RecyclerView implements OnDateChangedListener {
+
+    // Rebinds only the selection of a month view, see MonthAdapter#updateSelection
+    private static final Object PAYLOAD_SELECTION = new Object();
+
+    // How long the GoTo scroll animation should last
+    protected static final int GOTO_SCROLL_DURATION = DayPickerView.GOTO_SCROLL_DURATION;
+
+    // highlighted time
+    protected MonthAdapter.CalendarDay mSelectedDay = new MonthAdapter.CalendarDay();
+    protected MonthAdapter mAdapter;
+
+    protected MonthAdapter.CalendarDay mTempDay = new MonthAdapter.CalendarDay();
+
+    // which month should be displayed/highlighted [0-11]
+    protected int mCurrentMonthDisplayed;
+
+    private DatePickerController mController;
+    private MonthListAdapter mListAdapter;
+    private LinearLayoutManager mLayoutManager;
+    private boolean mPerformingScroll;
+
+    public DayPickerRecyclerView(Context context, AttributeSet attrs) {
+        super(context, attrs);
+        init(context);
+    }
+
+    public DayPickerRecyclerView(Context context, DatePickerController controller) {
+        super(context);
+        init(context);
+        setController(controller);
+    }
+
+    public void setController(DatePickerController controller) {
+        mController = controller;
+        mController.registerOnDateChangedListener(this);
+        // Month views built for another font or theme can not stand in for ours
+        setRecycledViewPool(MonthViewPools.get(getContext(), getClass().getName() + '|'
+                + controller.getTypeface() + '|' + controller.isThemeDark()));
+        refreshAdapter();
+        onDateChanged();
+    }
+
+    public void init(Context context) {
+        setLayoutParams(new ViewGroup.LayoutParams(
+                ViewGroup.LayoutParams.MATCH_PARENT, ViewGroup.LayoutParams.MATCH_PARENT));
+        mLayoutManager = new LinearLayoutManager(context) {
+            @Override
+            protected int getExtraLayoutSpace(State state) {
+                // Keep the next month bound before it scrolls in
+                return getHeight();
+            }
+        };
+        // Hand the month views back to the shared pool when the dialog goes away
+        mLayoutManager.setRecycleChildrenOnDetach(true);
+        setLayoutManager(mLayoutManager);
+        setHasFixedSize(true);
+        // Selection changes update month views in place, there is nothing to animate
+        setItemAnimator(null);
+        setVerticalScrollBarEnabled(false);
+        setOverScrollMode(OVER_SCROLL_NEVER);
+        new MonthSnapHelper().attachToRecyclerView(this);
+    }
+
+    public void onChange() {
+        refreshAdapter();
+    }
+
+    /**
+     * Creates a new adapter if necessary and sets up its parameters. Override
+     * this method to provide a custom adapter.
+     */
+    protected void refreshAdapter() {
+        if (mAdapter == null) {
+            mAdapter = createMonthAdapter(getContext(), mController);
+            mListAdapter = new MonthListAdapter();
+            setAdapter(mListAdapter);
+        } else {
+            // Rebind the months against the controller's new constraints
+            mListAdapter.notifyDataSetChanged();
+        }
+    }
+
+    public MonthAdapter createMonthAdapter(Context context, DatePickerController controller) {
+        return new SimpleMonthAdapter(context, controller);
+    }
+
+    /**
+     * This moves to the specified time in the view. If the time is not already
+     * in range it will move the list so that the first of the month containing
+     * the time is at the top of the view. If the new time is already in view
+     * the list will not be scrolled unless forceScroll is true. This time may
+     * optionally be highlighted as selected as well.
+     *
+     * @param day The day to move to
+     * @param animate Whether to scroll to the given time or just redraw at the
+     *            new location
+     * @param setSelected Whether to set the given time as selected
+     * @param forceScroll Whether to recenter even if the time is already
+     *            visible
+     * @return Whether or not the view animated to the new location
+     */
+    public boolean goTo(MonthAdapter.CalendarDay day, boolean animate, boolean setSelected, boolean forceScroll) {
+
+        // Set the selected day
+        if (setSelected) {
+            mSelectedDay.set(day);
+        }
+
+        mTempDay.set(day);
+        final int position = (day.year - mController.getMinYear())
+                * MonthAdapter.MONTHS_IN_YEAR + day.month;
+
+        // Find the first month that's completely in the view
+        int selectedPosition = 0;
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            if (child.getTop() >= 0) {
+                selectedPosition = getChildAdapterPosition(child);
+                break;
+            }
+        }
+
+        // Check if the selected day is now outside of our visible range
+        // and if so scroll to the month that contains it
+        if (position != selectedPosition || forceScroll) {
+            setMonthDisplayed(mTempDay);
+            if (animate) {
+                smoothScrollToMonth(position);
+                return true;
+            } else {
+                postSetSelection(position);
+            }
+        } else if (setSelected) {
+            setMonthDisplayed(mSelectedDay);
+        }
+        return false;
+    }
+
+    private void smoothScrollToMonth(int position) {
+        LinearSmoothScroller scroller = new LinearSmoothScroller(getContext()) {
+            @Override
+            protected int getVerticalSnapPreference() {
+                return SNAP_TO_START;
+            }
+
+            @Override
+            protected int calculateTimeForScrolling(int dx) {
+                return Math.min(GOTO_SCROLL_DURATION, super.calculateTimeForScrolling(dx));
+            }
+        };
+        scroller.setTargetPosition(position);
+        mLayoutManager.startSmoothScroll(scroller);
+    }
+
+    public void postSetSelection(final int position) {
+        clearFocus();
+        post(new Runnable() {
+
+            @Override
+            public void run() {
+                mLayoutManager.scrollToPositionWithOffset(position, 0);
+            }
+        });
+    }
+
+    /**
+     * Sets the month displayed at the top of this view based on time. Override
+     * to add custom events when the title is changed.
+     */
+    protected void setMonthDisplayed(MonthAdapter.CalendarDay date) {
+        mCurrentMonthDisplayed = date.month;
+        for (int i = 0; i < getChildCount(); i++) {
+            getChildAt(i).invalidate();
+        }
+    }
+
+    /**
+     * Gets the position of the view that is most prominently displayed within the list view.
+     */
+    public int getMostVisiblePosition() {
+        final int height = getHeight();
+
+        int maxDisplayedHeight = 0;
+        int mostVisiblePosition = mLayoutManager.findFirstVisibleItemPosition();
+        for (int i = 0; i < getChildCount(); i++) {
+            View child = getChildAt(i);
+            int displayedHeight = Math.min(child.getBottom(), height) - Math.max(0, child.getTop());
+            if (displayedHeight > maxDisplayedHeight) {
+                mostVisiblePosition = getChildAdapterPosition(child);
+                maxDisplayedHeight = displayedHeight;
+            }
+        }
+        return Math.max(mostVisiblePosition, 0);
+    }
+
+    @Override
+    public void onDateChanged() {
+        PersianCalendar persianCalendar = new PersianCalendar();
+        persianCalendar.setPersianDate(mController.getSelectedYear()
+                , persianCalendar.getPersianMonth(), persianCalendar.getPersianDay());
+        goTo(new MonthAdapter.CalendarDay(persianCalendar), false, true, true);
+    }
+
+    /**
+     * Attempts to return the date that has accessibility focus.
+     *
+     * @return The date that has accessibility focus, or {@code null} if no date
+     *         has focus.
+     */
+    private MonthAdapter.CalendarDay findAccessibilityFocus() {
+        final int childCount = getChildCount();
+        for (int i = 0; i < childCount; i++) {
+            final View child = getChildAt(i);
+            if (child instanceof MonthView) {
+                final MonthAdapter.CalendarDay focus = ((MonthView) child).getAccessibilityFocus();
+                if (focus != null) {
+                    return focus;
+                }
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Attempts to restore accessibility focus to a given date. No-op if
+     * {@code day} is {@code null}.
+     *
+     * @param day The date that should receive accessibility focus
+     * @return {@code true} if focus was restored
+     */
+    private boolean restoreAccessibilityFocus(MonthAdapter.CalendarDay day) {
+        if (day == null) {
+            return false;
+        }
+
+        final int childCount = getChildCount();
+        for (int i = 0; i < childCount; i++) {
+            final View child = getChildAt(i);
+            if (child instanceof MonthView) {
+                if (((MonthView) child).restoreAccessibilityFocus(day)) {
+                    return true;
+                }
+            }
+        }
+
+        return false;
+    }
+
+    @Override
+    protected void onLayout(boolean changed, int l, int t, int r, int b) {
+        final MonthAdapter.CalendarDay focusedDay = findAccessibilityFocus();
+        super.onLayout(changed, l, t, r, b);
+        if (mPerformingScroll) {
+            mPerformingScroll = false;
+        } else {
+            restoreAccessibilityFocus(focusedDay);
+        }
+    }
+
+    @Override
+    public void onInitializeAccessibilityEvent(@NonNull AccessibilityEvent event) {
+        super.onInitializeAccessibilityEvent(event);
+        event.setItemCount(-1);
+    }
+
+    /**
+     * Necessary for accessibility, to ensure we support "scrolling" forward and backward
+     * in the month list.
+     */
+    @Override
+    @SuppressWarnings("deprecation")
+    public void onInitializeAccessibilityNodeInfo(@NonNull AccessibilityNodeInfo info) {
+        super.onInitializeAccessibilityNodeInfo(info);
+        if (Build.VERSION.SDK_INT >= 21) {
+            info.addAction(AccessibilityNodeInfo.AccessibilityAction.ACTION_SCROLL_BACKWARD);
+            info.addAction(AccessibilityNodeInfo.AccessibilityAction.ACTION_SCROLL_FORWARD);
+        } else {
+            info.addAction(AccessibilityNodeInfo.ACTION_SCROLL_FORWARD);
+            info.addAction(AccessibilityNodeInfo.ACTION_SCROLL_BACKWARD);
+        }
+    }
+
+    /**
+     * When scroll forward/backward events are received, announce the newly scrolled-to month.
+     */
+    @SuppressLint("NewApi")
+    @Override
+    public boolean performAccessibilityAction(int action, Bundle arguments) {
+        if (action != AccessibilityNodeInfo.ACTION_SCROLL_FORWARD &&
+                action != AccessibilityNodeInfo.ACTION_SCROLL_BACKWARD) {
+            return super.performAccessibilityAction(action, arguments);
+        }
+
+        // Figure out what month is showing.
+        int firstVisiblePosition = Math.max(mLayoutManager.findFirstVisibleItemPosition(), 0);
+        int month = firstVisiblePosition % 12;
+        int year = firstVisiblePosition / 12 + mController.getMinYear();
+        MonthAdapter.CalendarDay day = new MonthAdapter.CalendarDay(year, month, 1);
+
+        // Scroll either forward or backward one month.
+        if (action == AccessibilityNodeInfo.ACTION_SCROLL_FORWARD) {
+            day.month++;
+            if (day.month == 12) {
+                day.month = 0;
+                day.year++;
+            }
+        } else if (action == AccessibilityNodeInfo.ACTION_SCROLL_BACKWARD) {
+            View firstVisibleView = getChildAt(0);
+            // If the view is fully visible, jump one month back. Otherwise, we'll just jump
+            // to the first day of first visible month.
+            if (firstVisibleView != null && firstVisibleView.getTop() >= -1) {
+                day.month--;
+                if (day.month == -1) {
+                    day.month = 11;
+                    day.year--;
+                }
+            }
+        }
+
+        // Go to that month.
+        Utils.tryAccessibilityAnnounce(this, PersianCalendarConstants.persianMonthNames[day.month]
+                + " " + PersianDigitCache.get(day.year));
+        goTo(day, true, false, true);
+        mPerformingScroll = true;
+        return true;
+    }
+
+    private static class MonthViewHolder extends RecyclerView.ViewHolder {
+
+        MonthViewHolder(MonthView itemView) {
+            super(itemView);
+        }
+    }
+
+    /**
+     * Exposes {@link #mAdapter} to the RecyclerView, binding recycled month views
+     * through {@link MonthAdapter#getView(int, View, ViewGroup)}.
+     */
+    private class MonthListAdapter extends RecyclerView.Adapter<MonthViewHolder> {
+
+        MonthListAdapter() {
+            setHasStableIds(true);
+            mAdapter.setOnSelectionChangedListener(new MonthAdapter.OnSelectionChangedListener() {
+                @Override
+                public void onSelectionChanged(int position) {
+                    notifyItemChanged(position, PAYLOAD_SELECTION);
+                }
+            });
+            mAdapter.registerDataSetObserver(new DataSetObserver() {
+                @Override
+                public void onChanged() {
+                    notifyDataSetChanged();
+                }
+            });
+        }
+
+        @Override
+        public MonthViewHolder onCreateViewHolder(@NonNull ViewGroup parent, int viewType) {
+            MonthView view = mAdapter.createMonthView(parent.getContext());
+            view.setClickable(true);
+            return new MonthViewHolder(view);
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull MonthViewHolder holder, int position) {
+            MonthView view = (MonthView) holder.itemView;
+            // Pooled views may come from another dialog of the activity
+            view.setDatePickerController(mController);
+            view.setOnDayClickListener(mAdapter);
+            mAdapter.getView(position, view, DayPickerRecyclerView.this);
+        }
+
+        @Override
+        public void onBindViewHolder(@NonNull MonthViewHolder holder, int position,
+                                     @NonNull List<Object> payloads) {
+            if (payloads.isEmpty()) {
+                onBindViewHolder(holder, position);
+            } else {
+                mAdapter.updateSelection((MonthView) holder.itemView, position);
+            }
+        }
+
+        @Override
+        public int getItemCount() {
+            return mAdapter.getCount();
+        }
+
+        @Override
+        public long getItemId(int position) {
+            return mAdapter.getItemId(position);
+        }
+    }
+}
@@ -23,13 +23,13 @@ import android.view.ViewGroup;
 import android.widget.AbsListView.LayoutParams;
 import android.widget.BaseAdapter;
 
+import com.mohamadamin.persianmaterialdatetimepicker.MonthParams;
 import com.mohamadamin.persianmaterialdatetimepicker.multidate.MonthView.OnDayClickListener;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateConverter;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateSet;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.TodayCache;
 
-import java.util.ArrayList;
-import java.util.Collections;
-import java.util.Comparator;
-import java.util.HashMap;
 
 /**
  * An adapter for a list of {@link MonthView} items.
@@ -41,7 +41,12 @@ public abstract class MonthAdapter extends BaseAdapter implements OnDayClickList
     private final Context mContext;
     protected final DatePickerController mController;
 
-    private final ArrayList<PersianCalendar> mSelectedDays;
+    private final PersianDateSet mSelectedDays;
+    private OnSelectionChangedListener mOnSelectionChangedListener;
+    // Refilled for every bind, month views copy the values out
+    private final MonthParams mMonthParams = new MonthParams();
+    // Today's date is converted once a day instead of once per bound month
+    private final TodayCache mTodayCache = new TodayCache();
 
     protected static int WEEK_7_OVERHANG_HEIGHT = 7;
     protected static final int MONTHS_IN_YEAR = 12;
@@ -126,10 +131,52 @@ public abstract class MonthAdapter extends BaseAdapter implements OnDayClickList
                         DatePickerController controller) {
         mContext = context;
         mController = controller;
-        mSelectedDays = mController.getSelectedDays();
-        /*ArrayList<PersianCalendar> persianCalendars = mController.getSelectedDays();
-        for (PersianCalendar row : persianCalendars)
-            mSelectedDays.add(new CalendarDay(row));*/
+        mSelectedDays = mController.getSelectedDaySet();
+    }
+
+    /**
+     * Notified of the months whose selection changed, so that a month list can
+     * update just the views showing them instead of rebinding every month.
+     */
+    public interface OnSelectionChangedListener {
+
+        /**
+         * @param position adapter position of the month, see
+         *                 {@link #updateSelection(MonthView, int)}
+         */
+        void onSelectionChanged(int position);
+    }
+
+    public void setOnSelectionChangedListener(OnSelectionChangedListener listener) {
+        mOnSelectionChangedListener = listener;
+    }
+
+    /**
+     * Tells the month list that the selection of the given month changed. Rebinds
+     * every month when nothing listens for single months.
+     *
+     * @param month zero based persian month
+     */
+    public void notifySelectionChanged(int year, int month) {
+        if (mOnSelectionChangedListener == null) {
+            notifyDataSetChanged();
+            return;
+        }
+        int position = (year - mController.getMinYear()) * MONTHS_IN_YEAR + month;
+        if (position >= 0 && position < getCount()) {
+            mOnSelectionChangedListener.onSelectionChanged(position);
+        }
+    }
+
+    /**
+     * Applies the current selection to a view already bound to the month at the
+     * given position, leaving the rest of its params alone.
+     */
+    public void updateSelection(MonthView view, int position) {
+        final int month = position % MONTHS_IN_YEAR;
+        final int year = position / MONTHS_IN_YEAR + mController.getMinYear();
+        view.setSelectedDaysMask(getSelectedDaysMask(year, month));
+        view.invalidate();
     }
 
     @Override
@@ -153,15 +200,11 @@ public abstract class MonthAdapter extends BaseAdapter implements OnDayClickList
     }
 
     @SuppressLint("NewApi")
-    @SuppressWarnings("unchecked")
     @Override
     public View getView(int position, View convertView, ViewGroup parent) {
         MonthView v;
-        HashMap<String, Object> drawingParams = null;
         if (convertView != null) {
             v = (MonthView) convertView;
-            // We store the drawing parameters in the view so it can be recycled
-            drawingParams = (HashMap<String, Object>) v.getTag();
         } else {
             v = createMonthView(mContext);
             // Set up the new view
@@ -171,37 +214,30 @@ public abstract class MonthAdapter extends BaseAdapter implements OnDayClickList
             v.setClickable(true);
             v.setOnDayClickListener(this);
         }
-        if (drawingParams == null) {
-            drawingParams = new HashMap<>();
-        }
-        drawingParams.clear();
 
         final int month = position % MONTHS_IN_YEAR;
         final int year = position / MONTHS_IN_YEAR + mController.getMinYear();
 
-        ArrayList<Integer> days = new ArrayList<>();
-        for (PersianCalendar persianCalendar : mSelectedDays)
-            if (isSelectedDayInMonth(new CalendarDay(persianCalendar), year, month))
-                days.add(persianCalendar.getPersianDay());
-
+        MonthParams monthParams = mMonthParams.reset();
+        monthParams.selectedDaysMask = getSelectedDaysMask(year, month);
 
         // Invokes requestLayout() to ensure that the recycled view is set with the appropriate
         // height/number of weeks before being displayed.
         v.reuse();
 
-        drawingParams.put(MonthView.VIEW_PARAMS_SELECTED_DAYS, days);
-        drawingParams.put(MonthView.VIEW_PARAMS_YEAR, year);
-        drawingParams.put(MonthView.VIEW_PARAMS_MONTH, month);
-        drawingParams.put(MonthView.VIEW_PARAMS_WEEK_START, mController.getFirstDayOfWeek());
-        v.setMonthParams(drawingParams);
+        monthParams.year = year;
+        monthParams.month = month;
+        monthParams.weekStart = mController.getFirstDayOfWeek();
+        monthParams.today = mTodayCache.get();
+        v.setMonthParams(monthParams);
         v.invalidate();
         return v;
     }
 
     public abstract MonthView createMonthView(Context context);
 
-    private boolean isSelectedDayInMonth(CalendarDay selectedDay, int year, int month) {
-        return selectedDay.year == year && selectedDay.month == month;
+    private int getSelectedDaysMask(int year, int month) {
+        return mSelectedDays.getMonthMask(year, month);
     }
 
 
@@ -219,29 +255,14 @@ public abstract class MonthAdapter extends BaseAdapter implements OnDayClickList
      */
     protected void onDayTapped(CalendarDay day) {
         mController.tryVibrate();
-        notifySelectedDays(day);
-        notifyDataSetChanged();
-        mController.onDaysOfMonthSelected(mSelectedDays);
-    }
-
-    private void notifySelectedDays(CalendarDay day) {
-        PersianCalendar toRemove = null;
-        for (PersianCalendar calendarDay : mSelectedDays)
-            if (day.same(new CalendarDay(calendarDay))) {
-                toRemove = calendarDay;
-                break;
-            }
-
-        if (mSelectedDays.size() > 1 && toRemove != null)
-            mSelectedDays.remove(toRemove);
-        else {
-            mSelectedDays.add(day.getPersianCalendar());
-            Collections.sort(mSelectedDays, new Comparator<PersianCalendar>() {
-                @Override
-                public int compare(PersianCalendar o1, PersianCalendar o2) {
-                    return o1.getTimeInMillis() > o2.getTimeInMillis() ? 1 : 0;
-                }
-            });
+        int date = PersianDateConverter.pack(day.year, day.month, day.day);
+        // The last selected day can't be deselected
+        if (mSelectedDays.size() > 1 && mSelectedDays.contains(date)) {
+            mSelectedDays.remove(date);
+        } else {
+            mSelectedDays.add(date);
         }
+        notifySelectionChanged(day.year, day.month);
+        mController.onSelectedDaysChanged(date);
     }
 }
@@ -18,7 +18,9 @@ package com.mohamadamin.persianmaterialdatetimepicker.multidate;
 
 import android.content.Context;
 import android.content.res.Resources;
+import android.graphics.Bitmap;
 import android.graphics.Canvas;
+import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.Paint.Align;
 import android.graphics.Paint.Style;
@@ -35,15 +37,21 @@ import android.view.View;
 import android.view.accessibility.AccessibilityEvent;
 import android.view.accessibility.AccessibilityNodeInfo;
 
+import com.mohamadamin.persianmaterialdatetimepicker.MonthDayPaints;
+import com.mohamadamin.persianmaterialdatetimepicker.MonthParams;
 import com.mohamadamin.persianmaterialdatetimepicker.R;
 import com.mohamadamin.persianmaterialdatetimepicker.TypefaceHelper;
-import com.mohamadamin.persianmaterialdatetimepicker.Utils;
 import com.mohamadamin.persianmaterialdatetimepicker.multidate.MonthAdapter.CalendarDay;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.LanguageUtils;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.MonthDayIndex;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.MonthGridTable;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendarConstants;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateConverter;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDigitCache;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.TodayCache;
 
 import java.security.InvalidParameterException;
-import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.HashMap;
 import java.util.List;
@@ -110,6 +118,12 @@ public abstract class MonthView extends View {
 
   private static final int SELECTED_CIRCLE_ALPHA = 255;
 
+  // flags of mDayStates
+  protected static final int DAY_STATE_DISABLED = MonthDayPaints.STATE_DISABLED;
+  protected static final int DAY_STATE_SELECTED = MonthDayPaints.STATE_SELECTED;
+  protected static final int DAY_STATE_TODAY = MonthDayPaints.STATE_TODAY;
+  protected static final int DAY_STATE_HIGHLIGHTED = MonthDayPaints.STATE_HIGHLIGHTED;
+
   protected static int DAY_SEPARATOR_WIDTH = 1;
   protected static int MINI_DAY_NUMBER_TEXT_SIZE;
   protected static int MONTH_LABEL_TEXT_SIZE;
@@ -126,11 +140,31 @@ public abstract class MonthView extends View {
   protected int mEdgePadding = 0;
 
   protected Paint mMonthNumPaint;
+  // shared day number paints for every day state, see updateDayPaints()
+  protected MonthDayPaints mDayPaints;
   protected Paint mMonthTitlePaint;
   protected Paint mSelectedCirclePaint;
   protected Paint mMonthDayLabelPaint;
 
-  private final StringBuilder mStringBuilder;
+  // Month title, built once per setMonthParams instead of on every draw
+  private String mMonthAndYearString;
+
+  // First letter of the persian week day names, index 0 being Saturday
+  private static final String[] WEEK_DAY_LABELS = new String[7];
+
+  static {
+    for (int i = 0; i < WEEK_DAY_LABELS.length; i++) {
+      WEEK_DAY_LABELS[i] = PersianCalendarConstants.persianWeekDays[i].substring(0, 1);
+    }
+  }
+
+  // Static content (title, week day labels and unselected day numbers) kept offscreen when
+  // the controller enables the month cache, redrawn only after invalidateContentCache()
+  private Bitmap mContentCache;
+  private Canvas mContentCacheCanvas;
+  private boolean mContentCacheValid;
+  // Applied to the day states while drawing, drops the selection when filling the cache
+  private int mDrawStateMask = ~0;
 
   // The Julian day of the first day displayed by this item
   protected int mFirstJulianDay = -1;
@@ -150,7 +184,8 @@ public abstract class MonthView extends View {
   protected boolean mHasToday = false;
   // Which day is selected [0-6] or -1 if no day is selected
   protected int mSelectedDay = -1;
-  protected ArrayList<Integer> mSelectedDays = new ArrayList<>();
+  // Selected days, bit d being set when day d is selected
+  protected int mSelectedDaysMask;
   // Which day is today [0-6] or -1 if no day is today
   protected int mToday = DEFAULT_SELECTED_DAY;
   // Which day of the week to start on [0-6]
@@ -163,9 +198,9 @@ public abstract class MonthView extends View {
   protected int mSelectedLeft = -1;
   // The right edge of the selected day
   protected int mSelectedRight = -1;
+  // DAY_STATE_* flags of every day of the month, indexed by day number
+  protected final byte[] mDayStates = new byte[32];
 
-  private final PersianCalendar mPersianCalendar;
-  protected final PersianCalendar mDayLabelCalendar;
   private final MonthViewTouchHelper mTouchHelper;
 
   protected int mNumRows = DEFAULT_NUM_ROWS;
@@ -194,9 +229,6 @@ public abstract class MonthView extends View {
     mController = controller;
     Resources res = context.getResources();
 
-    mDayLabelCalendar = new PersianCalendar();
-    mPersianCalendar = new PersianCalendar();
-
 
     boolean darkTheme = mController != null && mController.isThemeDark();
     if (darkTheme) {
@@ -214,8 +246,6 @@ public abstract class MonthView extends View {
     mTodayNumberColor = res.getColor(R.color.mdtp_accent_color);
     mMonthTitleColor = res.getColor(R.color.mdtp_white);
 
-    mStringBuilder = new StringBuilder(50);
-
     MINI_DAY_NUMBER_TEXT_SIZE = res.getDimensionPixelSize(R.dimen.mdtp_day_number_size);
     MONTH_LABEL_TEXT_SIZE = res.getDimensionPixelSize(R.dimen.mdtp_month_label_size);
     MONTH_DAY_LABEL_TEXT_SIZE = res.getDimensionPixelSize(R.dimen.mdtp_month_day_label_text_size);
@@ -317,99 +347,226 @@ public abstract class MonthView extends View {
     mMonthNumPaint.setStyle(Style.FILL);
     mMonthNumPaint.setTextAlign(Align.CENTER);
     mMonthNumPaint.setFakeBoldText(false);
+
+    updateDayPaints();
+  }
+
+  /**
+   * Picks the shared day number paints for the controller's font and theme.
+   */
+  protected void updateDayPaints() {
+    String fontName = mController.getTypeface();
+    boolean darkTheme = mController.isThemeDark();
+    if (mDayPaints == null || !mDayPaints.isFor(fontName, darkTheme)) {
+      mDayPaints = MonthDayPaints.get(getContext(), fontName, darkTheme, MINI_DAY_NUMBER_TEXT_SIZE);
+      invalidateContentCache();
+    }
   }
 
   @Override
   protected void onDraw(Canvas canvas) {
-    drawMonthTitle(canvas);
-    drawMonthDayLabels(canvas);
-    drawMonthNums(canvas);
+    if (mController.isMonthCacheEnabled() && getWidth() > 0 && getHeight() > 0) {
+      drawContentCache(canvas);
+      // Selected days are drawn over their cached unselected look
+      drawMonthNums(canvas, DAY_STATE_SELECTED);
+    } else {
+      drawMonthTitle(canvas);
+      drawMonthDayLabels(canvas);
+      drawMonthNums(canvas);
+    }
+  }
+
+  private void drawContentCache(Canvas canvas) {
+    int width = getWidth();
+    int height = getHeight();
+    if (mContentCache == null || mContentCache.getWidth() != width
+      || mContentCache.getHeight() != height) {
+      releaseContentCache();
+      mContentCache = Bitmap.createBitmap(width, height, Bitmap.Config.ARGB_8888);
+      mContentCacheCanvas = new Canvas(mContentCache);
+    }
+    if (!mContentCacheValid) {
+      mContentCache.eraseColor(Color.TRANSPARENT);
+      mDrawStateMask = ~DAY_STATE_SELECTED;
+      drawMonthTitle(mContentCacheCanvas);
+      drawMonthDayLabels(mContentCacheCanvas);
+      drawMonthNums(mContentCacheCanvas);
+      mDrawStateMask = ~0;
+      mContentCacheValid = true;
+    }
+    canvas.drawBitmap(mContentCache, 0, 0, null);
+  }
+
+  /**
+   * Marks the cached month content as stale so it is redrawn on the next frame. The month
+   * params, day states and paints already call it when they change; subclasses drawing
+   * anything else that is not tied to the selection should call it too.
+   */
+  protected void invalidateContentCache() {
+    mContentCacheValid = false;
+  }
+
+  private void releaseContentCache() {
+    if (mContentCache != null) {
+      mContentCache.recycle();
+      mContentCache = null;
+      mContentCacheCanvas = null;
+    }
+    mContentCacheValid = false;
+  }
+
+  @Override
+  protected void onDetachedFromWindow() {
+    super.onDetachedFromWindow();
+    releaseContentCache();
   }
 
   private int mDayOfWeekStart = 0;
+  // Only used by the map overload of setMonthParams, adapters pass their own MonthParams
+  private final MonthParams mMapParams = new MonthParams();
+  private TodayCache mTodayCache;
 
   /**
    * Sets all the parameters for displaying this week. The only required
    * parameter is the week number. Other parameters have a default value and
    * will only update if a new value is included, except for focus month,
    * which will always default to no focus month if no value is passed in. See
-   * {@link #VIEW_PARAMS_HEIGHT} for more info on parameters.
+   * {@link #VIEW_PARAMS_HEIGHT} for more info on parameters. The values are
+   * copied into a MonthParams held by the view and the map is not kept, so it is
+   * no longer set as the view tag.
    *
    * @param params A map of the new parameters, see
    *               {@link #VIEW_PARAMS_HEIGHT}
    */
+  @SuppressWarnings("unchecked")
   public void setMonthParams(HashMap<String, Object> params) {
     if (!params.containsKey(VIEW_PARAMS_MONTH) && !params.containsKey(VIEW_PARAMS_YEAR)) {
       throw new InvalidParameterException("You must specify month and year for this view");
     }
-    setTag(params);
+    MonthParams monthParams = mMapParams.reset();
     // We keep the current value for any params not present
     if (params.containsKey(VIEW_PARAMS_HEIGHT)) {
-      mRowHeight = (int) params.get(VIEW_PARAMS_HEIGHT);
-      if (mRowHeight < MIN_HEIGHT) {
-        mRowHeight = MIN_HEIGHT;
-      }
-    }
-    if (params.containsKey(VIEW_PARAMS_SELECTED_DAY)) {
-      mSelectedDay = (int) params.get(VIEW_PARAMS_SELECTED_DAY);
+      monthParams.height = (int) params.get(VIEW_PARAMS_HEIGHT);
     }
+    monthParams.selectedDay = params.containsKey(VIEW_PARAMS_SELECTED_DAY)
+      ? (int) params.get(VIEW_PARAMS_SELECTED_DAY) : mSelectedDay;
     if (params.containsKey(VIEW_PARAMS_SELECTED_DAYS)) {
-      mSelectedDays = (ArrayList<Integer>) params.get(VIEW_PARAMS_SELECTED_DAYS);
+      monthParams.selectedDaysMask = 0;
+      for (int day : (List<Integer>) params.get(VIEW_PARAMS_SELECTED_DAYS)) {
+        monthParams.addSelectedDay(day);
+      }
+    } else {
+      monthParams.selectedDaysMask = mSelectedDaysMask;
     }
-    // Allocate space for caching the day numbers and focus values
-    mMonth = (int) params.get(VIEW_PARAMS_MONTH);
-    mYear = (int) params.get(VIEW_PARAMS_YEAR);
-
-    // Figure out what day today is
-    //final Time today = new Time(Time.getCurrentTimezone());
-    //today.setToNow();
-    final PersianCalendar today = new PersianCalendar();
-    mHasToday = false;
-    mToday = -1;
-
-    mPersianCalendar.setPersianDate(mYear, mMonth, 1);
-    mDayOfWeekStart = mPersianCalendar.get(Calendar.DAY_OF_WEEK);
-
+    monthParams.month = (int) params.get(VIEW_PARAMS_MONTH);
+    monthParams.year = (int) params.get(VIEW_PARAMS_YEAR);
     if (params.containsKey(VIEW_PARAMS_WEEK_START)) {
-      mWeekStart = (int) params.get(VIEW_PARAMS_WEEK_START);
-    } else {
-      mWeekStart = Calendar.SATURDAY;
+      monthParams.weekStart = (int) params.get(VIEW_PARAMS_WEEK_START);
     }
+    if (mTodayCache == null) {
+      mTodayCache = new TodayCache();
+    }
+    monthParams.today = mTodayCache.get();
+    setMonthParams(monthParams);
+  }
 
-    mNumCells = Utils.getDaysInMonth(mMonth, mYear);
-    for (int i = 0; i < mNumCells; i++) {
-      final int day = i + 1;
-      if (sameDay(day, today)) {
-        mHasToday = true;
-        mToday = day;
+  /**
+   * Binds this view to a month. The values are copied out of params, so the caller may
+   * reuse the same instance for the next bind.
+   *
+   * @param params the month to display and its selection
+   */
+  public void setMonthParams(MonthParams params) {
+    if (params.height != 0) {
+      mRowHeight = params.height;
+      if (mRowHeight < MIN_HEIGHT) {
+        mRowHeight = MIN_HEIGHT;
       }
     }
-    mNumRows = calculateNumRows();
+    mSelectedDay = params.selectedDay;
+    mSelectedDaysMask = params.selectedDaysMask;
+    int previousYear = mYear;
+    int previousMonth = mMonth;
+    mMonth = params.month;
+    mYear = params.year;
+
+    int layout = MonthGridTable.get(mYear, mMonth);
+    mDayOfWeekStart = MonthGridTable.firstDayOfWeek(layout);
+
+    if (mYear != previousYear || mMonth != previousMonth || mMonthAndYearString == null) {
+      mMonthAndYearString = PersianCalendarConstants.persianMonthNames[mMonth] + " "
+        + PersianDigitCache.get(mYear);
+      invalidateContentCache();
+    } else if (mWeekStart != params.weekStart) {
+      invalidateContentCache();
+    }
+    mWeekStart = params.weekStart;
+
+    mNumCells = MonthGridTable.daysInMonth(layout);
+    mHasToday = params.today >= 0
+      && PersianDateConverter.monthOrdinal(params.today) == mYear * 12 + mMonth;
+    mToday = mHasToday ? PersianDateConverter.day(params.today) : -1;
+    mNumRows = MonthGridTable.numRows(layout, mWeekStart);
+    updateDayStates();
+    updateDayPaints();
 
     // Invalidate cached accessibility information.
     mTouchHelper.invalidateRoot();
   }
 
+  /**
+   * @param selectedDaysMask selected days of the month, bit {@code d} being set
+   *                         when day {@code d} is selected
+   */
+  public void setSelectedDaysMask(int selectedDaysMask) {
+    mSelectedDaysMask = selectedDaysMask;
+    updateDayStates();
+  }
+
   public void setSelectedDay(int day) {
     mSelectedDay = day;
+    updateDayStates();
   }
 
-  public void reuse() {
-    mNumRows = DEFAULT_NUM_ROWS;
-    requestLayout();
+  /**
+   * Recomputes the state of every day of the month from the month params and
+   * the controller's constraints, so that drawing only reads
+   * {@link #getDayState(int)}. Runs whenever the month params or the selected
+   * day change; call it if the constraints change while the view is bound.
+   */
+  protected void updateDayStates() {
+    for (int day = 1; day <= mNumCells; day++) {
+      int state = 0;
+      if (isOutOfRange(mYear, mMonth, day)) {
+        state |= DAY_STATE_DISABLED;
+      }
+      if ((mSelectedDaysMask & (1 << day)) != 0) {
+        state |= DAY_STATE_SELECTED;
+      }
+      if (mHasToday && mToday == day) {
+        state |= DAY_STATE_TODAY;
+      }
+      if (isHighlighted(mYear, mMonth, day)) {
+        state |= DAY_STATE_HIGHLIGHTED;
+      }
+      if (((mDayStates[day] ^ state) & ~DAY_STATE_SELECTED) != 0) {
+        // Only a selection change leaves the cached content valid
+        invalidateContentCache();
+      }
+      mDayStates[day] = (byte) state;
+    }
   }
 
-  private int calculateNumRows() {
-    int offset = findDayOffset();
-    int dividend = (offset + mNumCells) / mNumDays;
-    int remainder = (offset + mNumCells) % mNumDays;
-    return (dividend + (remainder > 0 ? 1 : 0));
+  /**
+   * @return DAY_STATE_* flags of the given day of the current month
+   */
+  protected int getDayState(int day) {
+    return mDayStates[day] & mDrawStateMask;
   }
 
-  private boolean sameDay(int day, PersianCalendar today) {
-    return mYear == today.getPersianYear() &&
-      mMonth == today.getPersianMonth() &&
-      day == today.getPersianDay();
+  public void reuse() {
+    mNumRows = DEFAULT_NUM_ROWS;
+    requestLayout();
   }
 
   @Override
@@ -442,9 +599,7 @@ public abstract class MonthView extends View {
   }
 
   private String getMonthAndYearString() {
-    mStringBuilder.setLength(0);
-    return LanguageUtils.getPersianNumbers(
-      mPersianCalendar.getPersianMonthName() + " " + mPersianCalendar.getPersianYear());
+    return mMonthAndYearString;
   }
 
   protected void drawMonthTitle(Canvas canvas) {
@@ -460,10 +615,8 @@ public abstract class MonthView extends View {
     for (int i = 0; i < mNumDays; i++) {
       int calendarDay = (i + mWeekStart) % mNumDays;
       int x = (int) (firstX - (2 * i + 1) * dayWidthHalf + mEdgePadding);
-      mDayLabelCalendar.set(Calendar.DAY_OF_WEEK, calendarDay);
-      String localWeekDisplayName = mDayLabelCalendar.getPersianWeekDayName(); // TODO: RTLize
-      String weekString = localWeekDisplayName.substring(0, 1);
-      canvas.drawText(weekString, x, y, mMonthDayLabelPaint);
+      // Calendar.DAY_OF_WEEK modulo 7 indexes the persian week days, 0 being Saturday
+      canvas.drawText(WEEK_DAY_LABELS[calendarDay % 7], x, y, mMonthDayLabelPaint);
     }
   }
 
@@ -474,6 +627,13 @@ public abstract class MonthView extends View {
    * @param canvas The canvas to draw on
    */
   protected void drawMonthNums(Canvas canvas) {
+    drawMonthNums(canvas, 0);
+  }
+
+  /**
+   * Draws the days having any of the given DAY_STATE_* flags, every day if flags is 0.
+   */
+  private void drawMonthNums(Canvas canvas, int flags) {
     int y = (((mRowHeight + MINI_DAY_NUMBER_TEXT_SIZE) / 2) - DAY_SEPARATOR_WIDTH)
       + getMonthHeaderSize();
     final float dayWidthHalf = (mWidth - mEdgePadding * 2) / (mNumDays * 2.0f);
@@ -489,7 +649,9 @@ public abstract class MonthView extends View {
       final int startY = y - yRelativeToDay;
       final int stopY = startY + mRowHeight;
 
-      drawMonthDay(canvas, mYear, mMonth, dayNumber, x, y, startX, stopX, startY, stopY);
+      if (flags == 0 || (mDayStates[dayNumber] & flags) != 0) {
+        drawMonthDay(canvas, mYear, mMonth, dayNumber, x, y, startX, stopX, startY, stopY);
+      }
 
       j++;
       if (j == mNumDays) {
@@ -587,7 +749,7 @@ public abstract class MonthView extends View {
    * Integer.MAX_VALUE.
    */
   protected boolean isOutOfRange(int year, int month, int day) {
-    if (mController.getSelectableDays() != null) {
+    if (mController.getSelectableDayIndex() != null) {
       return !isSelectable(year, month, day);
     }
 
@@ -601,29 +763,8 @@ public abstract class MonthView extends View {
   }
 
   private boolean isSelectable(int year, int month, int day) {
-    PersianCalendar[] selectableDays = mController.getSelectableDays();
-    for (PersianCalendar c : selectableDays) {
-      if (year < c.getPersianYear()) {
-        break;
-      }
-      if (year > c.getPersianYear()) {
-        continue;
-      }
-      if (month < c.getPersianMonth()) {
-        break;
-      }
-      if (month > c.getPersianMonth()) {
-        continue;
-      }
-      if (day < c.getPersianDay()) {
-        break;
-      }
-      if (day > c.getPersianDay()) {
-        continue;
-      }
-      return true;
-    }
-    return false;
+    MonthDayIndex selectableDays = mController.getSelectableDayIndex();
+    return selectableDays == null || selectableDays.contains(year, month, day);
   }
 
   private boolean isBeforeMin(int year, int month, int day) {
@@ -689,32 +830,8 @@ public abstract class MonthView extends View {
    * @return true if the given date should be highlighted
    */
   protected boolean isHighlighted(int year, int month, int day) {
-    PersianCalendar[] highlightedDays = mController.getHighlightedDays();
-    if (highlightedDays == null) {
-      return false;
-    }
-    for (PersianCalendar c : highlightedDays) {
-      if (year < c.getPersianYear()) {
-        break;
-      }
-      if (year > c.getPersianYear()) {
-        continue;
-      }
-      if (month < c.getPersianMonth()) {
-        break;
-      }
-      if (month > c.getPersianMonth()) {
-        continue;
-      }
-      if (day < c.getPersianDay()) {
-        break;
-      }
-      if (day > c.getPersianDay()) {
-        continue;
-      }
-      return true;
-    }
-    return false;
+    MonthDayIndex highlightedDays = mController.getHighlightedDayIndex();
+    return highlightedDays != null && highlightedDays.contains(year, month, day);
   }
 
   /**
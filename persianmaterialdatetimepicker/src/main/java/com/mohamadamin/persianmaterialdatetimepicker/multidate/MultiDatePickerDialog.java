@@ -43,7 +43,12 @@ import com.mohamadamin.persianmaterialdatetimepicker.TypefaceHelper;
 import com.mohamadamin.persianmaterialdatetimepicker.Utils;
 import com.mohamadamin.persianmaterialdatetimepicker.date.AccessibleDateAnimator;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.LanguageUtils;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.MonthDayIndex;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianCalendar;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateCodec;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateConverter;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDateSet;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDigitCache;
 
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -63,6 +68,7 @@ public class MultiDatePickerDialog extends DialogFragment implements
   private static final int YEAR_VIEW = 1;
 
   private static final String KEY_SELECTED_DAYS = "selectedDays";
+  private static final String KEY_LAST_SELECTED_DAY = "last_selected_day";
   private static final String KEY_LIST_POSITION = "list_position";
   private static final String KEY_WEEK_START = "week_start";
   private static final String KEY_YEAR_START = "year_start";
@@ -75,6 +81,7 @@ public class MultiDatePickerDialog extends DialogFragment implements
   private static final String KEY_HIGHLIGHTED_DAYS = "highlighted_days";
   private static final String KEY_SELECTABLE_DAYS = "selectable_days";
   private static final String KEY_THEME_DARK = "theme_dark";
+  private static final String KEY_MONTH_CACHE_ENABLED = "month_cache_enabled";
 
   private static final int DEFAULT_START_YEAR = 1350;
   private static final int DEFAULT_END_YEAR = 1450;
@@ -82,7 +89,9 @@ public class MultiDatePickerDialog extends DialogFragment implements
   private static final int ANIMATION_DURATION = 300;
   private static final int ANIMATION_DELAY = 500;
 
-  private final ArrayList<PersianCalendar> mSelectedDaysCalendars = new ArrayList<>();
+  private final PersianDateSet mSelectedDays = new PersianDateSet();
+  // Packed day shown in the header, the one the user selected last rather than the latest one
+  private int mLastSelectedDate = -1;
   private OnDateSetListener mCallBack;
   private HashSet<OnDateChangedListener> mListeners = new HashSet<>();
   private DialogInterface.OnCancelListener mOnCancelListener;
@@ -95,7 +104,7 @@ public class MultiDatePickerDialog extends DialogFragment implements
   private TextView mSelectedMonthTextView;
   private TextView mSelectedDayTextView;
   private TextView mYearView;
-  private DayPickerView mDayPickerView;
+  private DayPickerRecyclerView mDayPickerView;
   private YearPickerView mYearPickerView;
 
   private int mCurrentView = UNINITIALIZED;
@@ -108,7 +117,11 @@ public class MultiDatePickerDialog extends DialogFragment implements
   private PersianCalendar mMaxDate;
   private PersianCalendar[] highlightedDays;
   private PersianCalendar[] selectableDays;
+  // bitset per month built from the arrays above for the month views
+  private MonthDayIndex highlightedDayIndex;
+  private MonthDayIndex selectableDayIndex;
   private boolean mThemeDark;
+  private boolean mMonthCacheEnabled;
 
   private HapticFeedbackController mHapticFeedbackController;
 
@@ -161,10 +174,14 @@ public class MultiDatePickerDialog extends DialogFragment implements
     mCallBack = callBack;
     if (selectedDays != null) {
       setSelectedDays(selectedDays);
-    } else {
-      mSelectedDaysCalendars.add(new PersianCalendar());
     }
-    mSelectedYear = mSelectedDaysCalendars.get(mSelectedDaysCalendars.size() - 1).getPersianYear();
+    if (mSelectedDays.isEmpty()) {
+      PersianCalendar today = new PersianCalendar();
+      mLastSelectedDate = PersianDateConverter.pack(today.getPersianYear(),
+        today.getPersianMonth(), today.getPersianDay());
+      mSelectedDays.add(mLastSelectedDate);
+    }
+    mSelectedYear = PersianDateConverter.year(getLastSelectedDate());
     mThemeDark = false;
   }
 
@@ -175,15 +192,21 @@ public class MultiDatePickerDialog extends DialogFragment implements
     activity.getWindow().setSoftInputMode(
       WindowManager.LayoutParams.SOFT_INPUT_STATE_ALWAYS_HIDDEN);
     if (savedInstanceState != null) {
-      mSelectedDaysCalendars.clear();
-      mSelectedDaysCalendars.addAll((ArrayList<PersianCalendar>) savedInstanceState.getSerializable(KEY_SELECTED_DAYS));
+      byte[] selectedDays = savedInstanceState.getByteArray(KEY_SELECTED_DAYS);
+      if (selectedDays != null) {
+        int[] packedDays = PersianDateCodec.decode(selectedDays);
+        mSelectedDays.setPacked(packedDays, 0, packedDays.length);
+      }
+      mLastSelectedDate = savedInstanceState.getInt(KEY_LAST_SELECTED_DAY, mLastSelectedDate);
     }
   }
 
   @Override
   public void onSaveInstanceState(@NonNull Bundle outState) {
     super.onSaveInstanceState(outState);
-    outState.putSerializable(KEY_SELECTED_DAYS, mSelectedDaysCalendars);
+    outState.putByteArray(KEY_SELECTED_DAYS,
+      PersianDateCodec.encode(mSelectedDays.toArray(), 0, mSelectedDays.size()));
+    outState.putInt(KEY_LAST_SELECTED_DAY, mLastSelectedDate);
     outState.putInt(KEY_WEEK_START, mWeekStart);
     outState.putInt(KEY_YEAR_START, mMinYear);
     outState.putInt(KEY_YEAR_END, mMaxYear);
@@ -196,12 +219,13 @@ public class MultiDatePickerDialog extends DialogFragment implements
       outState.putInt(KEY_LIST_POSITION_OFFSET, mYearPickerView.getFirstPositionOffset());
     }
     outState.putInt(KEY_LIST_POSITION, listPosition);
-    outState.putSerializable(KEY_MIN_DATE, mMinDate);
-    outState.putSerializable(KEY_MAX_DATE, mMaxDate);
-    outState.putSerializable(KEY_SELECTED_YEAR, mSelectedYear);
-    outState.putSerializable(KEY_HIGHLIGHTED_DAYS, highlightedDays);
-    outState.putSerializable(KEY_SELECTABLE_DAYS, selectableDays);
+    Utils.putPersianDay(outState, KEY_MIN_DATE, mMinDate);
+    Utils.putPersianDay(outState, KEY_MAX_DATE, mMaxDate);
+    outState.putInt(KEY_SELECTED_YEAR, mSelectedYear);
+    Utils.putPersianDays(outState, KEY_HIGHLIGHTED_DAYS, highlightedDays);
+    Utils.putPersianDays(outState, KEY_SELECTABLE_DAYS, selectableDays);
     outState.putBoolean(KEY_THEME_DARK, mThemeDark);
+    outState.putBoolean(KEY_MONTH_CACHE_ENABLED, mMonthCacheEnabled);
   }
 
   @Override
@@ -237,14 +261,15 @@ public class MultiDatePickerDialog extends DialogFragment implements
       currentView = savedInstanceState.getInt(KEY_CURRENT_VIEW);
       listPosition = savedInstanceState.getInt(KEY_LIST_POSITION);
       listPositionOffset = savedInstanceState.getInt(KEY_LIST_POSITION_OFFSET);
-      mMinDate = (PersianCalendar) savedInstanceState.getSerializable(KEY_MIN_DATE);
-      mMaxDate = (PersianCalendar) savedInstanceState.getSerializable(KEY_MAX_DATE);
-      highlightedDays = (PersianCalendar[]) savedInstanceState.getSerializable(KEY_HIGHLIGHTED_DAYS);
-      selectableDays = (PersianCalendar[]) savedInstanceState.getSerializable(KEY_SELECTABLE_DAYS);
+      mMinDate = Utils.getPersianDay(savedInstanceState, KEY_MIN_DATE);
+      mMaxDate = Utils.getPersianDay(savedInstanceState, KEY_MAX_DATE);
+      restoreHighlightedDays(Utils.getPackedPersianDays(savedInstanceState, KEY_HIGHLIGHTED_DAYS));
+      restoreSelectableDays(Utils.getPackedPersianDays(savedInstanceState, KEY_SELECTABLE_DAYS));
       mThemeDark = savedInstanceState.getBoolean(KEY_THEME_DARK);
+      mMonthCacheEnabled = savedInstanceState.getBoolean(KEY_MONTH_CACHE_ENABLED);
     }
 
-    mDayPickerView = new SimpleDayPickerView(activity, this);
+    mDayPickerView = new DayPickerRecyclerView(activity, this);
     mYearPickerView = new YearPickerView(activity, this);
 
     Resources res = getResources();
@@ -259,7 +284,7 @@ public class MultiDatePickerDialog extends DialogFragment implements
     mAnimator = view.findViewById(R.id.animator);
     mAnimator.addView(mDayPickerView);
     mAnimator.addView(mYearPickerView);
-    mAnimator.setDateMillis(mSelectedDaysCalendars.get(mSelectedDaysCalendars.size() - 1).getTimeInMillis());
+    mAnimator.setDateMillis(getLastSelectedDay().getTimeInMillis());
     // TODO: Replace with animation decided upon by the design team.
     Animation animation = new AlphaAnimation(0.0f, 1.0f);
     animation.setDuration(ANIMATION_DURATION);
@@ -276,7 +301,7 @@ public class MultiDatePickerDialog extends DialogFragment implements
       public void onClick(View v) {
         tryVibrate();
         if (mCallBack != null) {
-          mCallBack.onDateSet(MultiDatePickerDialog.this, mSelectedDaysCalendars);
+          mCallBack.onDateSet(MultiDatePickerDialog.this, getSelectedDays());
         }
         dismiss();
       }
@@ -356,7 +381,7 @@ public class MultiDatePickerDialog extends DialogFragment implements
         }
         pulseAnimator.start();
 
-        String dayString = LanguageUtils.getPersianNumbers(mSelectedDaysCalendars.get(mSelectedDaysCalendars.size() - 1).getPersianLongDate());
+        String dayString = LanguageUtils.getPersianNumbers(getLastSelectedDay().getPersianLongDate());
         mAnimator.setContentDescription(mDayPickerDescription + ": " + dayString);
         Utils.tryAccessibilityAnnounce(mAnimator, mSelectDay);
         break;
@@ -375,8 +400,7 @@ public class MultiDatePickerDialog extends DialogFragment implements
         }
         pulseAnimator.start();
 
-        String yearString = LanguageUtils.
-          getPersianNumbers(String.valueOf(mSelectedDaysCalendars.get(mSelectedDaysCalendars.size() - 1).getPersianYear()));
+        String yearString = PersianDigitCache.get(PersianDateConverter.year(getLastSelectedDate()));
         mAnimator.setContentDescription(mYearPickerDescription + ": " + yearString);
         Utils.tryAccessibilityAnnounce(mAnimator, mSelectYear);
         break;
@@ -384,28 +408,23 @@ public class MultiDatePickerDialog extends DialogFragment implements
   }
 
   private void updateDisplay(boolean announce) {
-    if (mSelectedDaysCalendars.size() == 0) {
+    if (mSelectedDays.isEmpty()) {
       return;
     }
-    PersianCalendar target = mSelectedDaysCalendars.get(mSelectedDaysCalendars.size() - 1);
+    PersianCalendar target = getLastSelectedDay();
     if (mDayOfWeekView != null) {
       mDayOfWeekView.setText(target.getPersianWeekDayName());
     }
 
-    mSelectedMonthTextView.setText(LanguageUtils.
-      getPersianNumbers(target.getPersianMonthName()));
-    mSelectedDayTextView.setText(LanguageUtils.
-      getPersianNumbers(String.valueOf(target.getPersianDay())));
-    mYearView.setText(LanguageUtils.
-      getPersianNumbers(String.valueOf(mSelectedYear)));
+    mSelectedMonthTextView.setText(target.getPersianMonthName());
+    mSelectedDayTextView.setText(PersianDigitCache.get(target.getPersianDay()));
+    mYearView.setText(PersianDigitCache.get(mSelectedYear));
 
     // Accessibility.
     long millis = target.getTimeInMillis();
     mAnimator.setDateMillis(millis);
-    String monthAndDayText = LanguageUtils.getPersianNumbers(
-      target.getPersianMonthName() + " " +
-        target.getPersianDay()
-    );
+    String monthAndDayText = target.getPersianMonthName() + " " +
+      PersianDigitCache.get(target.getPersianDay());
     mMonthAndDayView.setContentDescription(monthAndDayText);
 
     if (announce) {
@@ -434,6 +453,23 @@ public class MultiDatePickerDialog extends DialogFragment implements
     return mThemeDark;
   }
 
+  /**
+   * Set whether month views should keep their static content (title, week day labels and
+   * day numbers) in an offscreen bitmap and only draw the selection on top of it while
+   * scrolling. Trades one bitmap per visible month for cheaper frames, disabled by default.
+   *
+   * @param monthCacheEnabled true to cache the content of each month view
+   */
+  @SuppressWarnings("unused")
+  public void setMonthCacheEnabled(boolean monthCacheEnabled) {
+    mMonthCacheEnabled = monthCacheEnabled;
+  }
+
+  @Override
+  public boolean isMonthCacheEnabled() {
+    return mMonthCacheEnabled;
+  }
+
   @SuppressWarnings("unused")
   public void setFirstDayOfWeek(int startOfWeek) {
     if (startOfWeek < Calendar.SUNDAY || startOfWeek > Calendar.SATURDAY) {
@@ -515,6 +551,11 @@ public class MultiDatePickerDialog extends DialogFragment implements
     // Sort the array to optimize searching over it later on
     Arrays.sort(highlightedDays);
     this.highlightedDays = highlightedDays;
+    this.highlightedDayIndex = MonthDayIndex.of(highlightedDays);
+
+    if (mDayPickerView != null) {
+      mDayPickerView.onChange();
+    }
   }
 
   /**
@@ -536,6 +577,11 @@ public class MultiDatePickerDialog extends DialogFragment implements
     // Sort the array to optimize searching over it later on
     Arrays.sort(selectableDays);
     this.selectableDays = selectableDays;
+    this.selectableDayIndex = MonthDayIndex.of(selectableDays);
+
+    if (mDayPickerView != null) {
+      mDayPickerView.onChange();
+    }
   }
 
   /**
@@ -546,6 +592,26 @@ public class MultiDatePickerDialog extends DialogFragment implements
     return selectableDays;
   }
 
+  private void restoreHighlightedDays(int[] packedDays) {
+    highlightedDays = packedDays != null ? PersianDateCodec.toPersianCalendars(packedDays) : null;
+    highlightedDayIndex = packedDays != null ? MonthDayIndex.ofPacked(packedDays, 0, packedDays.length) : null;
+  }
+
+  private void restoreSelectableDays(int[] packedDays) {
+    selectableDays = packedDays != null ? PersianDateCodec.toPersianCalendars(packedDays) : null;
+    selectableDayIndex = packedDays != null ? MonthDayIndex.ofPacked(packedDays, 0, packedDays.length) : null;
+  }
+
+  @Override
+  public MonthDayIndex getHighlightedDayIndex() {
+    return highlightedDayIndex;
+  }
+
+  @Override
+  public MonthDayIndex getSelectableDayIndex() {
+    return selectableDayIndex;
+  }
+
   @SuppressWarnings("unused")
   public void setOnDateSetListener(OnDateSetListener listener) {
     mCallBack = listener;
@@ -586,11 +652,15 @@ public class MultiDatePickerDialog extends DialogFragment implements
   @Override
   public void onYearSelected(int year) {
     mSelectedYear = year;
-    adjustDayInMonthIfNeeded(mSelectedDaysCalendars.get(mSelectedDaysCalendars.size() - 1).getPersianMonth(), year);
-    if (mSelectedDaysCalendars.size() == 1) {
-      mSelectedDaysCalendars.get(mSelectedDaysCalendars.size() - 1).setPersianDate(year
-        , mSelectedDaysCalendars.get(mSelectedDaysCalendars.size() - 1).getPersianMonth(),
-        mSelectedDaysCalendars.get(mSelectedDaysCalendars.size() - 1).getPersianDay());
+    int last = getLastSelectedDate();
+    adjustDayInMonthIfNeeded(PersianDateConverter.month(last), year);
+    if (mSelectedDays.size() == 1) {
+      PersianCalendar day = new PersianCalendar();
+      day.setPersianDate(year, PersianDateConverter.month(last), PersianDateConverter.day(last));
+      mLastSelectedDate = PersianDateConverter.pack(day.getPersianYear(), day.getPersianMonth(),
+        day.getPersianDay());
+      mSelectedDays.clear();
+      mSelectedDays.add(mLastSelectedDate);
     }
     updatePickers();
     setCurrentView(MONTH_AND_DAY_VIEW);
@@ -599,12 +669,35 @@ public class MultiDatePickerDialog extends DialogFragment implements
 
   @Override
   public void onDaysOfMonthSelected(ArrayList<PersianCalendar> selectedDays) {
-    //setSelectedDays(selectedDays);
-    mSelectedYear = selectedDays.get(selectedDays.size() - 1).getPersianYear();
+    setSelectedDays(selectedDays);
+    onSelectedDaysChanged();
+  }
+
+  @Override
+  public void onSelectedDaysChanged(int toggledDate) {
+    if (mSelectedDays.contains(toggledDate)) {
+      mLastSelectedDate = toggledDate;
+    } else if (toggledDate == mLastSelectedDate) {
+      // The set does not keep the order of the other days, fall back to the latest of them
+      mLastSelectedDate = mSelectedDays.get(mSelectedDays.size() - 1);
+    }
+    mSelectedYear = PersianDateConverter.year(getLastSelectedDate());
     updatePickers();
     updateDisplay(true);
   }
 
+  /**
+   * @return the packed day shown in the header: the day the user selected last, or the
+   * last day of the list given to {@link #setSelectedDays(ArrayList)}
+   */
+  private int getLastSelectedDate() {
+    return mLastSelectedDate;
+  }
+
+  private PersianCalendar getLastSelectedDay() {
+    return PersianDateSet.toPersianCalendar(getLastSelectedDate());
+  }
+
   private void updatePickers() {
     for (OnDateChangedListener listener : mListeners) {
       listener.onDateChanged();
@@ -614,13 +707,17 @@ public class MultiDatePickerDialog extends DialogFragment implements
 
   @Override
   public ArrayList<PersianCalendar> getSelectedDays() {
-    return mSelectedDaysCalendars;
+    return mSelectedDays.toPersianCalendars();
   }
 
   @Override
   public void setSelectedDays(ArrayList<PersianCalendar> selectedDays) {
-    mSelectedDaysCalendars.clear();
-    mSelectedDaysCalendars.addAll(selectedDays);
+    mSelectedDays.set(selectedDays);
+    if (!selectedDays.isEmpty()) {
+      PersianCalendar last = selectedDays.get(selectedDays.size() - 1);
+      mLastSelectedDate = PersianDateConverter.pack(last.getPersianYear(), last.getPersianMonth(),
+        last.getPersianDay());
+    }
   }
 
   @Override
@@ -18,13 +18,10 @@ package com.mohamadamin.persianmaterialdatetimepicker.multidate;
 
 import android.content.Context;
 import android.graphics.Canvas;
-import android.graphics.Typeface;
 import android.util.AttributeSet;
 
-import com.mohamadamin.persianmaterialdatetimepicker.TypefaceHelper;
-import com.mohamadamin.persianmaterialdatetimepicker.utils.LanguageUtils;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDigitCache;
 
-import java.util.Locale;
 
 public class SimpleMonthView extends MonthView {
   private DatePickerController controller;
@@ -37,36 +34,12 @@ public class SimpleMonthView extends MonthView {
   @Override
   public void drawMonthDay(Canvas canvas, int year, int month, int day,
                            int x, int y, int startX, int stopX, int startY, int stopY) {
-    boolean flag = false;
-    for (int selectedDays : mSelectedDays) {
-      if (day == selectedDays) {
-        canvas.drawCircle(x, y - (MINI_DAY_NUMBER_TEXT_SIZE / 3), DAY_SELECTED_CIRCLE_SIZE,
-          mSelectedCirclePaint);
-        flag = true;
-        break;
-      }
+    int state = getDayState(day);
+    if ((state & DAY_STATE_SELECTED) != 0) {
+      canvas.drawCircle(x, y - (MINI_DAY_NUMBER_TEXT_SIZE / 3), DAY_SELECTED_CIRCLE_SIZE,
+        mSelectedCirclePaint);
     }
 
-    if (isHighlighted(year, month, day)) {
-      Typeface typefaceBold = Typeface.create(TypefaceHelper.get(getContext(), controller.getTypeface()), Typeface.BOLD);
-      mMonthNumPaint.setTypeface(typefaceBold);
-    } else {
-      Typeface typefaceNormal = Typeface.create(TypefaceHelper.get(getContext(), controller.getTypeface()), Typeface.NORMAL);
-      mMonthNumPaint.setTypeface(typefaceNormal);
-    }
-
-    // If we have a mindate or maxdate, gray out the day number if it's outside the range.
-    if (isOutOfRange(year, month, day)) {
-      mMonthNumPaint.setColor(mDisabledDayTextColor);
-    } else if (flag) {
-      mMonthNumPaint.setColor(mSelectedDayTextColor);
-    } else if (mHasToday && mToday == day) {
-      mMonthNumPaint.setColor(mTodayNumberColor);
-    } else {
-      mMonthNumPaint.setColor(isHighlighted(year, month, day) ? mHighlightedDayTextColor : mDayTextColor);
-    }
-
-    canvas.drawText(LanguageUtils.
-      getPersianNumbers(String.format(Locale.getDefault(),"%d", day)), x, y, mMonthNumPaint);
+    canvas.drawText(PersianDigitCache.get(day), x, y, mDayPaints.getPaint(state));
   }
 }
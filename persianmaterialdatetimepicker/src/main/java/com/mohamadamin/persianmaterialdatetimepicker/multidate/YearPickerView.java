@@ -32,10 +32,10 @@ import com.mohamadamin.persianmaterialdatetimepicker.R;
 import com.mohamadamin.persianmaterialdatetimepicker.date.TextViewWithCircularIndicator;
 import com.mohamadamin.persianmaterialdatetimepicker.multidate.MultiDatePickerDialog.OnDateChangedListener;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.LanguageUtils;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDigitCache;
 
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
 
 /**
  * Displays a selectable list of years.
@@ -74,9 +74,8 @@ public class YearPickerView extends ListView implements OnItemClickListener, OnD
     private void init(Context context) {
         ArrayList<String> years = new ArrayList<>();
         for (int year = mController.getMinYear(); year <= mController.getMaxYear(); year++) {
-            years.add(String.format(Locale.getDefault(),"%d", year));
+            years.add(PersianDigitCache.get(year));
         }
-        years = LanguageUtils.getPersianNumbers(years);
         mAdapter = new YearAdapter(context, R.layout.mdtp_year_label_text_view, years);
         setAdapter(mAdapter);
     }
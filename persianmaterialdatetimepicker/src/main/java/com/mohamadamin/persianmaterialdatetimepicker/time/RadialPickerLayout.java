@@ -41,9 +41,9 @@ import android.widget.FrameLayout;
 import com.mohamadamin.persianmaterialdatetimepicker.HapticFeedbackController;
 import com.mohamadamin.persianmaterialdatetimepicker.R;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.LanguageUtils;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDigitCache;
 
 import java.util.Calendar;
-import java.util.Locale;
 
 /**
  * The primary layout to hold the circular picker, and the am/pm buttons. This view will measure
@@ -210,11 +210,9 @@ public class RadialPickerLayout extends FrameLayout implements OnTouchListener {
     String[] innerHoursTexts = new String[12];
     String[] minutesTexts = new String[12];
     for (int i = 0; i < 12; i++) {
-      hoursTexts[i] = LanguageUtils.getPersianNumbers(
-        is24HourMode ? String.format(Locale.getDefault(),"%02d", hours_24[i]) : String.format(Locale.getDefault(),"%d", hours[i])
-      );
-      innerHoursTexts[i] = LanguageUtils.getPersianNumbers(String.format(Locale.getDefault(),"%d", hours[i]));
-      minutesTexts[i] = LanguageUtils.getPersianNumbers(String.format(Locale.getDefault(),"%02d", minutes[i]));
+      hoursTexts[i] = is24HourMode ? PersianDigitCache.getTwoDigits(hours_24[i]) : PersianDigitCache.get(hours[i]);
+      innerHoursTexts[i] = PersianDigitCache.get(hours[i]);
+      minutesTexts[i] = PersianDigitCache.getTwoDigits(minutes[i]);
     }
     mHourRadialTextsView.initialize(res,
       hoursTexts, (is24HourMode ? innerHoursTexts : null), mHideAmPm, true,fontName);
@@ -44,6 +44,7 @@ import com.mohamadamin.persianmaterialdatetimepicker.TypefaceHelper;
 import com.mohamadamin.persianmaterialdatetimepicker.Utils;
 import com.mohamadamin.persianmaterialdatetimepicker.time.RadialPickerLayout.OnValueSelectedListener;
 import com.mohamadamin.persianmaterialdatetimepicker.utils.LanguageUtils;
+import com.mohamadamin.persianmaterialdatetimepicker.utils.PersianDigitCache;
 
 import java.util.ArrayList;
 import java.util.Locale;
@@ -498,18 +499,17 @@ public class TimePickerDialog extends DialogFragment implements OnValueSelectedL
   }
 
   private void setHour(int value, boolean announce) {
-    String format;
+    String text;
     if (mIs24HourMode) {
-      format = "%02d";
+      text = PersianDigitCache.getTwoDigits(value);
     } else {
-      format = "%d";
       value = value % 12;
       if (value == 0) {
         value = 12;
       }
+      text = PersianDigitCache.get(value);
     }
 
-    String text = LanguageUtils.getPersianNumbers(String.format(Locale.getDefault(),format, value));
     mHourView.setText(text);
     mHourSpaceView.setText(text);
     if (announce) {
@@ -521,7 +521,7 @@ public class TimePickerDialog extends DialogFragment implements OnValueSelectedL
     if (value == 60) {
       value = 0;
     }
-    CharSequence text = LanguageUtils.getPersianNumbers(String.format(Locale.getDefault(), "%02d", value));
+    CharSequence text = PersianDigitCache.getTwoDigits(value);
     Utils.tryAccessibilityAnnounce(mTimePicker, text);
     mMinuteView.setText(text);
     mMinuteSpaceView.setText(text);